@@ -0,0 +1,42 @@
+package com.sole.domain.crew.service;
+
+import com.sole.global.util.DistanceCalculator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 주변 검색에서 요청/후보 한 건마다 호출되는 기하 계산 단위 비용.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoMathBenchmark {
+
+    // 상수 폴딩을 막기 위해 필드로 둔다
+    private double lat1 = 37.5547;
+    private double lng1 = 126.9707;
+    private double lat2 = 37.5665;
+    private double lng2 = 126.9780;
+    private double radiusKm = 3.0;
+
+    @Benchmark
+    public double haversineKm() {
+        return DistanceCalculator.haversineKm(lat1, lng1, lat2, lng2);
+    }
+
+    @Benchmark
+    public BoundingBox calculateBoundingBox() {
+        return CrewService.calculateBoundingBox(lat1, lng1, radiusKm);
+    }
+}
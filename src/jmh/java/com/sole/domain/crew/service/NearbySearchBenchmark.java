@@ -0,0 +1,133 @@
+package com.sole.domain.crew.service;
+
+import com.sole.domain.crew.dto.NearbyCrewRequest;
+import com.sole.domain.crew.dto.NearbyCrewResponse;
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.common.ApiResponse;
+import com.sole.global.util.BatchDistance;
+import com.sole.global.util.DistanceCalculator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 후보 수(100 ~ 100k)에 따른 주변 검색 후처리 비용.
+ * 후보는 서울역 반경 약 6km에 고정 시드로 흩뿌리고, 검색 반경 3km로 일부가 걸러지게 한다.
+ * gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 할당량을 함께 본다.
+ * rankByDistancePerCandidate는 배치 커널(BatchDistance) 도입 전 구현으로, rankByDistance와 비교하는 기준이다.
+ * rankByDistance는 기본 limit의 첫 페이지(+1건)를 고르고, serializeResponse는 그 한 페이지를 직렬화한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearbySearchBenchmark {
+
+    private static final double CENTER_LAT = 37.5547;
+    private static final double CENTER_LNG = 126.9707;
+    private static final double RADIUS_KM = 3.0;
+    private static final int LIMIT = NearbyCrewRequest.DEFAULT_LIMIT;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int candidateCount;
+
+    private List<CrewSummaryProjection> candidates;
+    private double[] lats;
+    private double[] lngs;
+    private int[] indexBuffer;
+    private double[] distanceBuffer;
+    private ApiResponse<List<NearbyCrewResponse>> response;
+    private JsonMapper jsonMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime meetingTime = LocalDateTime.of(2026, 1, 1, 7, 0);
+        candidates = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            candidates.add(new CrewSummaryProjection(
+                    (long) i,
+                    "크루" + i,
+                    1L,
+                    "서울",
+                    "용산구",
+                    meetingTime.plusMinutes(i),
+                    "서울역 인근",
+                    CENTER_LAT + (random.nextDouble() - 0.5) * 0.11,
+                    CENTER_LNG + (random.nextDouble() - 0.5) * 0.14,
+                    10,
+                    random.nextInt(10),
+                    PreferredLevel.values()[i % 3]
+            ));
+        }
+        lats = candidates.stream().mapToDouble(CrewSummaryProjection::latitude).toArray();
+        lngs = candidates.stream().mapToDouble(CrewSummaryProjection::longitude).toArray();
+        indexBuffer = new int[candidateCount];
+        distanceBuffer = new double[candidateCount];
+        response = ApiResponse.success(CrewService.rankByDistance(
+                candidates, CENTER_LAT, CENTER_LNG, RADIUS_KM, null, LIMIT));
+        jsonMapper = JsonMapper.builder().build(); // Spring MVC와 같은 Jackson 3
+    }
+
+    @Benchmark
+    public void haversineAll(Blackhole blackhole) {
+        for (CrewSummaryProjection candidate : candidates) {
+            blackhole.consume(DistanceCalculator.haversineKm(
+                    CENTER_LAT, CENTER_LNG, candidate.latitude(), candidate.longitude()));
+        }
+    }
+
+    // 배치 커널 도입 전 구현: 후보마다 haversine + 응답 생성 후 필터/정렬 (비교 기준)
+    @Benchmark
+    public List<NearbyCrewResponse> rankByDistancePerCandidate() {
+        return candidates.stream()
+                .map(summary -> NearbyCrewResponse.of(summary, DistanceCalculator.haversineKm(
+                        CENTER_LAT, CENTER_LNG, summary.latitude(), summary.longitude())))
+                .filter(resp -> resp.distanceKm() <= RADIUS_KM)
+                .sorted(Comparator.comparingDouble(NearbyCrewResponse::distanceKm))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int batchWithinRadius() {
+        return BatchDistance.withinRadius(CENTER_LAT, CENTER_LNG, RADIUS_KM, lats, lngs, candidateCount,
+                indexBuffer, distanceBuffer);
+    }
+
+    @Benchmark
+    public List<NearbyCrewResponse> rankByDistance() {
+        return CrewService.rankByDistance(candidates, CENTER_LAT, CENTER_LNG, RADIUS_KM, null, LIMIT + 1);
+    }
+
+    // limit 없이 반경 안 전체를 정렬해 돌려주는 경우 (첫 페이지 힙 선택과 비교)
+    @Benchmark
+    public List<NearbyCrewResponse> rankByDistanceUnbounded() {
+        return CrewService.rankByDistance(candidates, CENTER_LAT, CENTER_LNG, RADIUS_KM, null, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+}
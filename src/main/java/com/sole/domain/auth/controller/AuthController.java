@@ -2,15 +2,25 @@ package com.sole.domain.auth.controller;
 
 import com.sole.domain.auth.dto.LoginRequest;
 import com.sole.domain.auth.dto.LoginResponse;
+import com.sole.domain.auth.dto.RefreshTokenRequest;
 import com.sole.domain.auth.dto.SignUpRequest;
 import com.sole.domain.auth.dto.SignUpResponse;
+import com.sole.domain.auth.dto.TokenResponse;
 import com.sole.domain.auth.service.AuthService;
 import com.sole.domain.auth.service.AuthService.LoginResult;
+import com.sole.domain.user.service.UserPrincipal;
 import com.sole.global.common.ApiResponse;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
 import com.sole.global.security.SessionManager;
+import com.sole.global.security.TokenClaims;
+import com.sole.global.security.TokenService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -23,6 +33,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final SessionManager sessionManager;
+    private final TokenService tokenService;
 
     @PostMapping("/signup")
     public ApiResponse<SignUpResponse> signUp(@Valid @RequestBody
@@ -36,14 +47,46 @@ public class AuthController {
             @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest
     ) {
         LoginResult result = authService.login(request);
+        // 토큰 모드는 세션을 만들지 않고 서명 토큰을 응답에 담는다
+        if (tokenService.isEnabled()) {
+            TokenResponse token = authService.issueTokens(result);
+            return ApiResponse.success(new LoginResponse(result.userId(), result.nickname(), result.email(), token));
+        }
         sessionManager.storeAuthentication(httpRequest, result.authentication());
         return ApiResponse.success(new LoginResponse(result.userId(), result.nickname(), result.email()));
     }
 
+    @PostMapping("/refresh")
+    public ApiResponse<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        // 세션 모드에는 refresh 토큰이 없으므로 없는 경로로 응답한다
+        if (!tokenService.isEnabled()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        return ApiResponse.success(authService.refresh(request.refreshToken()));
+    }
+
     @PostMapping("/logout")
-    public ApiResponse<Void> logout(HttpServletRequest request) {
-        sessionManager.clearSession(request);
-        authService.logout();
+    public ApiResponse<Void> logout(
+            Authentication authentication, HttpServletRequest request, HttpServletResponse response
+    ) {
+        // 토큰 모드는 이 기기의 refresh 토큰을 무효화하고, 세션 모드는 세션을 정리한다
+        if (tokenService.isEnabled()) {
+            if (authentication != null && authentication.getDetails() instanceof TokenClaims claims) {
+                authService.logout(claims.userId(), claims.familyId());
+            }
+        } else {
+            sessionManager.clearSession(request, response);
+        }
+        return ApiResponse.success();
+    }
+
+    @PostMapping("/logout-all")
+    public ApiResponse<Void> logoutAll(@AuthenticationPrincipal UserPrincipal principal) {
+        // 모든 기기의 refresh 토큰을 무효화한다. 세션 모드에는 refresh 토큰이 없으므로 없는 경로로 응답한다
+        if (!tokenService.isEnabled()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        authService.logoutAll(principal.getId());
         return ApiResponse.success();
     }
-}
\ No newline at end of file
+}
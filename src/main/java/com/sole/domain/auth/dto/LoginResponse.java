@@ -1,4 +1,9 @@
 package com.sole.domain.auth.dto;
 
-public record LoginResponse(Long userId, String nickname, String email) {
+// token은 토큰 인증 모드(sole.security.auth.mode=token)에서만 채워진다
+public record LoginResponse(Long userId, String nickname, String email, TokenResponse token) {
+
+    public LoginResponse(Long userId, String nickname, String email) {
+        this(userId, nickname, email, null);
+    }
 }
@@ -0,0 +1,9 @@
+package com.sole.domain.auth.dto;
+
+public record TokenResponse(
+        String tokenType,
+        String accessToken,
+        long accessTokenExpiresIn,
+        String refreshToken
+) {
+}
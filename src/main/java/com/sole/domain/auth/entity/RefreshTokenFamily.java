@@ -0,0 +1,55 @@
+package com.sole.domain.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * 토큰 모드 로그인 한 번(기기 하나)에서 이어지는 refresh 토큰 계열.
+ * refresh 토큰은 계열 id와 발급 당시 rotation을 담고, 회전할 때마다 rotation이 1씩 올라 이전 토큰은 쓸 수 없게 된다.
+ * 계열끼리는 독립이라 한 기기의 회전이 다른 기기의 refresh 토큰을 무효로 만들지 않는다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "refresh_token_families",
+        indexes = {
+                @Index(name = "IDX_refresh_family_user", columnList = "user_id"),
+                @Index(name = "IDX_refresh_family_expires", columnList = "expires_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenFamily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    // INSERT 이후 변경은 RefreshTokenFamilyRepository의 원자적 UPDATE 쿼리로만 반영한다.
+    @Column(nullable = false, updatable = false)
+    private int rotation;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public RefreshTokenFamily(Long userId, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+}
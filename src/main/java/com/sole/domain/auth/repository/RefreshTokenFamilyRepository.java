@@ -0,0 +1,43 @@
+package com.sole.domain.auth.repository;
+
+import com.sole.domain.auth.entity.RefreshTokenFamily;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, Long> {
+
+    /**
+     * refresh 토큰 회전. 토큰에 담긴 rotation이 아직 계열의 현재 값일 때만 올리고 만료 시각을 연장하므로,
+     * 같은 refresh 토큰으로 동시에 요청해도 한 번만 성공한다.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update RefreshTokenFamily f set f.rotation = f.rotation + 1, f.expiresAt = :expiresAt
+            where f.id = :id and f.userId = :userId and f.rotation = :rotation
+            """)
+    int rotate(@Param("id") Long id,
+               @Param("userId") Long userId,
+               @Param("rotation") int rotation,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 로그아웃: 이 기기의 계열만 지운다
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshTokenFamily f where f.id = :id and f.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshTokenFamily f where f.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshTokenFamily f where f.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
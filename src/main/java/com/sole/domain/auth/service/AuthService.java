@@ -2,6 +2,9 @@ package com.sole.domain.auth.service;
 
 import com.sole.domain.auth.dto.LoginRequest;
 import com.sole.domain.auth.dto.SignUpRequest;
+import com.sole.domain.auth.dto.TokenResponse;
+import com.sole.domain.auth.entity.RefreshTokenFamily;
+import com.sole.domain.auth.repository.RefreshTokenFamilyRepository;
 import com.sole.domain.region.entity.Region;
 import com.sole.domain.region.repository.RegionRepository;
 import com.sole.domain.user.entity.User;
@@ -9,15 +12,20 @@ import com.sole.domain.user.repository.UserRepository;
 import com.sole.domain.user.service.UserPrincipal;
 import com.sole.global.common.ErrorCode;
 import com.sole.global.exception.BusinessException;
+import com.sole.global.security.AuthProperties;
+import com.sole.global.security.TokenClaims;
+import com.sole.global.security.TokenClaims.TokenType;
+import com.sole.global.security.TokenService;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +37,12 @@ public class AuthService {
     private final RegionRepository regionRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final AuthProperties authProperties;
 
-    @Transactional
+    // 해시 풀에서 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 없이 조회 -> 해시 -> 저장 순으로 나눈다.
+    // 그 사이 같은 이메일이 먼저 가입하면 UK_user_email 위반이 DUPLICATED_EMAIL로 바뀐다
     public Long signUp(SignUpRequest request) {
         if (userRepository.existsByEmail(request.email())) {
             throw new BusinessException(ErrorCode.DUPLICATED_EMAIL);
@@ -57,7 +69,8 @@ public class AuthService {
         return id;
     }
 
-    @Transactional(readOnly = true)
+    // 해시 검증은 트랜잭션 밖에서 한다 (사용자 조회만 짧게 커넥션을 쓴다).
+    // cost 재계산(rehash)이 필요하면 CustomUserDetailsService.updatePassword가 UPDATE 한 문장만 따로 커밋한다
     public LoginResult login(LoginRequest request) {
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(request.email(), request.password());
@@ -68,8 +81,74 @@ public class AuthService {
         return new LoginResult(authentication, principal.getId(),principal.getUsername(),principal.getNickname());
     }
 
-    @Transactional(readOnly = true)
-    public void logout() {}
+    /**
+     * 토큰 모드 로그인 응답용 access/refresh 토큰을 발급한다.
+     * 로그인마다 refresh 토큰 계열을 새로 만들어 기기별로 따로 회전하게 하고, 사용자의 현재 tokenVersion을 함께 담는다.
+     */
+    public TokenResponse issueTokens(LoginResult result) {
+        int tokenVersion = userRepository.findTokenVersionById(result.userId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.AUTHENTICATION_FAILED));
+        RefreshTokenFamily family = refreshTokenFamilyRepository.save(
+                new RefreshTokenFamily(result.userId(), refreshExpiresAt()));
+        return tokenService.issue((UserPrincipal) result.authentication().getPrincipal(),
+                family.getId(), family.getRotation(), tokenVersion);
+    }
+
+    /**
+     * refresh 토큰으로 새 토큰 쌍을 발급한다(회전). 토큰의 rotation이 아직 계열의 현재 값일 때만 올리고 성공하므로
+     * 한 번 쓴 refresh 토큰과 로그아웃한 기기의 refresh 토큰은 거부된다. 다른 기기(계열)의 토큰에는 영향이 없다.
+     * 전체 로그아웃/비밀번호 변경으로 사용자의 tokenVersion이 오른 뒤에는 모든 계열의 토큰이 거부된다.
+     * 이미 발급된 access 토큰은 만료(TTL)까지 유효하다. 닉네임 변경/탈퇴를 반영하도록 사용자는 다시 읽는다.
+     */
+    public TokenResponse refresh(String refreshToken) {
+        TokenClaims claims = tokenService.verify(refreshToken, TokenType.REFRESH)
+                .orElseThrow(() -> new BusinessException(ErrorCode.AUTHENTICATION_FAILED));
+        User user = userRepository.findById(claims.userId())
+                .filter(found -> found.getTokenVersion() == claims.tokenVersion())
+                .orElseThrow(() -> new BusinessException(ErrorCode.AUTHENTICATION_FAILED));
+        if (refreshTokenFamilyRepository.rotate(
+                claims.familyId(), claims.userId(), claims.rotation(), refreshExpiresAt()) == 0) {
+            throw new BusinessException(ErrorCode.AUTHENTICATION_FAILED);
+        }
+        return tokenService.issue(UserPrincipal.from(user),
+                claims.familyId(), claims.rotation() + 1, claims.tokenVersion());
+    }
+
+    /**
+     * 토큰 모드 로그아웃: 이 기기(계열)의 refresh 토큰만 무효로 만든다.
+     */
+    public void logout(Long userId, long familyId) {
+        refreshTokenFamilyRepository.deleteByIdAndUserId(familyId, userId);
+    }
+
+    /**
+     * 토큰 모드 전체 로그아웃: tokenVersion을 올려 모든 기기의 refresh 토큰을 무효로 만들고 계열도 지운다.
+     */
+    public void logoutAll(Long userId) {
+        userRepository.increaseTokenVersion(userId);
+        refreshTokenFamilyRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * 만료된 refresh 토큰 계열을 지운다 (로그아웃 없이 떠난 기기의 행이 쌓이지 않도록).
+     */
+    @Scheduled(
+            fixedDelayString = "${sole.security.auth.family-cleanup-interval:PT1H}",
+            initialDelayString = "${sole.security.auth.family-cleanup-interval:PT1H}"
+    )
+    public void deleteExpiredFamilies() {
+        if (!tokenService.isEnabled()) {
+            return;
+        }
+        int deleted = refreshTokenFamilyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("expired refresh token families deleted count={}", deleted);
+        }
+    }
+
+    private LocalDateTime refreshExpiresAt() {
+        return LocalDateTime.now().plus(authProperties.refreshTokenTtl());
+    }
 
     public record LoginResult(
             Authentication authentication,
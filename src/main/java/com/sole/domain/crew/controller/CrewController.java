@@ -1,20 +1,42 @@
 package com.sole.domain.crew.controller;
 
-import java.util.List;
-
 import com.sole.domain.crew.dto.*;
+import com.sole.domain.crew.service.CrewCsvParser;
+import com.sole.domain.crew.service.CrewImportProperties;
+import com.sole.domain.crew.service.CrewImportService;
 import com.sole.domain.crew.service.CrewService;
+import com.sole.domain.crew.service.CrewStreamLimiter;
 import com.sole.domain.user.service.UserPrincipal;
 import com.sole.global.common.ApiResponse;
+import com.sole.global.common.CursorResponse;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.common.NdjsonWriter;
 import com.sole.global.common.PageResponse;
+import com.sole.global.common.SliceResponse;
+import com.sole.global.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/api/v1/crews")
@@ -23,6 +45,10 @@ import org.springframework.web.bind.annotation.*;
 public class CrewController {
 
     private final CrewService crewService;
+    private final CrewImportService crewImportService;
+    private final CrewImportProperties crewImportProperties;
+    private final CrewStreamLimiter crewStreamLimiter;
+    private final JsonMapper jsonMapper;
 
     @PostMapping
     public ApiResponse<Long> createCrew(
@@ -33,6 +59,33 @@ public class CrewController {
         return ApiResponse.success(crewId);
     }
 
+    // 일괄 등록: 요청자가 모든 모임의 호스트가 되고, 검증에 실패한 행은 건너뛰고 행 번호와 사유를 돌려준다.
+    // sole.crew.import.enabled=true인 환경에서만 받는다 (본문을 읽기 전에 거절)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<CrewImportResponse> importCrews(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestBody List<CrewCreateRequest> rows
+    ) {
+        requireImportEnabled();
+        return ApiResponse.success(crewImportService.importCrews(principal.getId(), rows, List.of()));
+    }
+
+    // CSV는 트랜잭션 밖에서 끝까지 읽은 뒤 등록한다 (느린 업로드 동안 커넥션을 잡지 않도록)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ApiResponse<CrewImportResponse> importCrewsCsv(
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletRequest request
+    ) throws IOException {
+        requireImportEnabled();
+        Charset charset = request.getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8 : Charset.forName(request.getCharacterEncoding());
+        CrewCsvParser.Result parsed;
+        try (Reader reader = new InputStreamReader(request.getInputStream(), charset)) {
+            parsed = CrewCsvParser.parse(reader, crewImportProperties.maxRows());
+        }
+        return ApiResponse.success(crewImportService.importCrews(principal.getId(), parsed.rows(), parsed.errors()));
+    }
+
     @GetMapping("/{crewId}")
     public ApiResponse<CrewDetailResponse> getCrewDetail(@PathVariable Long crewId) {
         CrewDetailResponse response = crewService.getCrewDetail(crewId);
@@ -48,6 +101,44 @@ public class CrewController {
         return ApiResponse.success(PageResponse.from(page));
     }
 
+    // 대량 조회용: Accept가 application/x-ndjson이면 페이지 없이 조건에 맞는 모임을 DB 커서에서 읽는 대로 한 줄씩 보낸다.
+    // application/json 요청은 위의 getCrews가 받아 기존처럼 ApiResponse로 감싼 페이지를 돌려준다.
+    // 스트림은 끝날 때까지 커넥션을 쥐므로 트랜잭션을 열기 전에 동시 스트림 허가부터 받는다
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamCrews(
+            @ModelAttribute CrewSearchCondition condition,
+            @SortDefault(sort = "meetingTime") Sort sort,
+            HttpServletResponse response
+    ) throws IOException {
+        crewStreamLimiter.acquire();
+        try {
+            NdjsonWriter.<CrewSummaryResponse>write(jsonMapper, response,
+                    sink -> crewService.streamCrews(condition, sort, sink));
+        } finally {
+            crewStreamLimiter.release();
+        }
+    }
+
+    // 전체 건수가 필요 없는 화면용: COUNT 쿼리 없이 hasNext만 내려준다
+    @GetMapping("/slice")
+    public ApiResponse<SliceResponse<CrewSummaryResponse>> getCrewSlice(
+            @ModelAttribute CrewSearchCondition condition,
+            @PageableDefault(size = 10, sort = "meetingTime") Pageable pageable
+    ) {
+        Slice<CrewSummaryResponse> slice = crewService.getCrewSlice(condition, pageable);
+        return ApiResponse.success(SliceResponse.from(slice));
+    }
+
+    // 무한 스크롤용: 전체 건수 없이 nextCursor로 이어서 조회한다
+    @GetMapping("/scroll")
+    public ApiResponse<CursorResponse<CrewSummaryResponse>> getCrewsByCursor(
+            @ModelAttribute CrewSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return ApiResponse.success(crewService.getCrewsByCursor(condition, cursor, size));
+    }
+
     @PutMapping("/{crewId}")
     public ApiResponse<Long> updateCrew(
             @PathVariable Long crewId,
@@ -86,10 +177,16 @@ public class CrewController {
     }
 
     @GetMapping("/nearby")
-    public ApiResponse<List<NearbyCrewResponse>> getNearbyCrews(
+    public ApiResponse<CursorResponse<NearbyCrewResponse>> getNearbyCrews(
             @Valid @ModelAttribute NearbyCrewRequest request
     ) {
-        List<NearbyCrewResponse> response = crewService.getNearbyCrews(request);
+        CursorResponse<NearbyCrewResponse> response = crewService.getNearbyCrews(request);
         return ApiResponse.success(response);
     }
+
+    private void requireImportEnabled() {
+        if (!crewImportProperties.enabled()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+    }
 }
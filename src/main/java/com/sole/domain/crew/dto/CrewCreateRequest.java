@@ -14,9 +14,9 @@ public record CrewCreateRequest(
         LocalDateTime meetingTime,
         @NotBlank @Size(max = 255)
         String place,
-        @NotNull
+        @NotNull @DecimalMin(value = "-90.0") @DecimalMax(value = "90.0")
         Double latitude,
-        @NotNull
+        @NotNull @DecimalMin(value = "-180.0") @DecimalMax(value = "180.0")
         Double longitude,
         @Positive
         Integer maxParticipants,
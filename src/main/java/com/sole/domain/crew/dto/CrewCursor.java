@@ -0,0 +1,36 @@
+package com.sole.domain.crew.dto;
+
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 모임 목록 커서: 마지막으로 내려준 (meetingTime, id).
+ * 외부에는 URL-safe Base64 문자열로만 노출해 형식에 의존하지 않게 한다.
+ */
+public record CrewCursor(LocalDateTime meetingTime, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = meetingTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CrewCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(DELIMITER);
+            return new CrewCursor(
+                    LocalDateTime.parse(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sole.domain.crew.dto;
+
+import java.util.List;
+
+/**
+ * 모임 일괄 등록 결과. 검증을 통과한 행만 등록하고, 나머지는 행 번호(1부터)와 사유를 돌려준다.
+ */
+public record CrewImportResponse(
+        int requested,
+        int imported,
+        List<RowError> errors
+) {
+
+    public record RowError(int row, String message) {
+    }
+}
@@ -3,6 +3,8 @@ package com.sole.domain.crew.dto;
 import com.sole.domain.user.entity.PreferredLevel;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.time.LocalDateTime;
@@ -12,13 +14,26 @@ public record NearbyCrewRequest(
         Double latitude,
         @NotNull @DecimalMin(value = "-180.0") @DecimalMax(value = "180.0")
         Double longitude,
-        @NotNull @Positive
+        @NotNull @Positive @DecimalMax(value = "50.0") // 반경이 클수록 후보 조회/캐시 무효화 셀 등록 비용이 제곱으로 커진다
         Double radiusKm,
         PreferredLevel level,
         LocalDateTime startDateTime,
-        LocalDateTime endDateTime
+        LocalDateTime endDateTime,
+        @Min(1) @Max(100)
+        Integer limit,
+        String cursor // 이전 응답의 nextCursor
 ) {
+    public static final int DEFAULT_LIMIT = 20;
+
     public LocalDateTime endDateTimeExclusive() {
         return endDateTime;
     }
+
+    public int limitOrDefault() {
+        return limit == null ? DEFAULT_LIMIT : limit;
+    }
+
+    public NearbyCursor after() {
+        return cursor == null || cursor.isBlank() ? null : NearbyCursor.decode(cursor);
+    }
 }
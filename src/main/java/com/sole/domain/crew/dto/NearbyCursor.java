@@ -0,0 +1,40 @@
+package com.sole.domain.crew.dto;
+
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 주변 검색 커서: 마지막으로 내려준 (distanceKm, id).
+ * 거리는 같은 좌표로 다시 계산하면 같은 값이 나오므로 Double.toString으로 정확히 왕복시킨다.
+ */
+public record NearbyCursor(double distanceKm, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = distanceKm + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NearbyCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(DELIMITER);
+            return new NearbyCursor(
+                    Double.parseDouble(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    // (거리, id) 오름차순에서 이 커서 뒤에 오는지
+    public boolean precedes(double otherDistanceKm, long otherId) {
+        int byDistance = Double.compare(distanceKm, otherDistanceKm);
+        return byDistance < 0 || (byDistance == 0 && id < otherId);
+    }
+}
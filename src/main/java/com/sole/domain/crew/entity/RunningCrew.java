@@ -6,6 +6,7 @@ import com.sole.domain.user.entity.User;
 import com.sole.global.common.BaseTimeEntity;
 import com.sole.global.common.ErrorCode;
 import com.sole.global.exception.BusinessException;
+import com.sole.global.util.GeoCell;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -20,7 +21,11 @@ import lombok.*;
                 @Index(name = "IDX_running_crews_region_meeting", columnList
                         = "region_id, meeting_time"),
                 @Index(name = "IDX_running_crews_lat_lng", columnList =
-                        "latitude, longitude")
+                        "latitude, longitude"),
+                @Index(name = "IDX_running_crews_cell_meeting", columnList =
+                        "geo_cell, meeting_time"),
+                @Index(name = "IDX_running_crews_meeting", columnList =
+                        "meeting_time")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -55,9 +60,17 @@ public class RunningCrew extends BaseTimeEntity {
     @Column(nullable = false)
     private double longitude;
 
+    // 위경도로부터 계산한 GeoCell ID. 주변 검색에서 셀 구간 조회에 쓴다.
+    @Column(name = "geo_cell", nullable = false)
+    private long geoCell;
+
     @Column(name = "max_participants", nullable = false)
     private int maxParticipants;
 
+    // 참여 인원 비정규화 컬럼. INSERT 이후 변경은 원자적 UPDATE 쿼리로만 반영한다.
+    @Column(name = "current_participants", nullable = false, updatable = false)
+    private int currentParticipants;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private PreferredLevel level;
@@ -80,6 +93,7 @@ public class RunningCrew extends BaseTimeEntity {
         this.place = place;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.geoCell = GeoCell.of(latitude, longitude);
         this.maxParticipants = maxParticipants;
         this.level = level;
     }
@@ -88,6 +102,14 @@ public class RunningCrew extends BaseTimeEntity {
     public void addMember(CrewMember member) {
         members.add(member);
         member.assignCrew(this);
+        currentParticipants++;
+    }
+
+    // 컬렉션과 메모리상의 인원 수만 맞춘다 (DB 반영은 Repository의 감소 쿼리)
+    public void removeMember(CrewMember member) {
+        if (members.remove(member)) {
+            currentParticipants--;
+        }
     }
 
     // 모임 정보 수정 (호스트 권한 체크 후 호출)
@@ -109,6 +131,7 @@ public class RunningCrew extends BaseTimeEntity {
         this.place = place;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.geoCell = GeoCell.of(latitude, longitude);
         this.maxParticipants = maxParticipants;
         this.level = level;
     }
@@ -0,0 +1,90 @@
+package com.sole.domain.crew.repository;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.entity.CrewRole;
+import com.sole.global.util.GeoCell;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모임/호스트 멤버 일괄 INSERT.
+ * 엔티티 ID가 IDENTITY라 Hibernate는 INSERT를 배치로 묶지 못하므로 JDBC 배치로 직접 쓴다.
+ * MySQL은 rewriteBatchedStatements=true면 배치 하나가 multi-row INSERT 하나로 나가고,
+ * 생성된 키도 배치 단위로 한 번에 돌려받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CrewBulkInsertRepository {
+
+    private static final String INSERT_CREW = """
+            INSERT INTO running_crews (title, description, host_id, region_id, meeting_time, place,
+                latitude, longitude, geo_cell, max_participants, current_participants, level, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_MEMBER = """
+            INSERT INTO crew_members (crew_id, user_id, role, joined_at)
+            VALUES (?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검증이 끝난 행을 한 배치로 INSERT하고 생성된 모임 ID를 행 순서대로 돌려준다.
+     * 호스트 1명이 current_participants 초기값이다.
+     */
+    public List<Long> insertCrews(Long hostId, List<CrewCreateRequest> rows, LocalDateTime now) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_CREW, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CrewCreateRequest row = rows.get(i);
+                        ps.setString(1, row.title());
+                        ps.setString(2, row.description());
+                        ps.setLong(3, hostId);
+                        ps.setLong(4, row.regionId());
+                        ps.setObject(5, row.meetingTime());
+                        ps.setString(6, row.place());
+                        ps.setDouble(7, row.latitude());
+                        ps.setDouble(8, row.longitude());
+                        ps.setLong(9, GeoCell.of(row.latitude(), row.longitude()));
+                        ps.setInt(10, row.maxParticipants());
+                        ps.setInt(11, 1);
+                        ps.setString(12, row.level().name());
+                        ps.setObject(13, now);
+                        ps.setObject(14, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != rows.size()) {
+            throw new IllegalStateException("generated keys " + ids.size() + " != rows " + rows.size());
+        }
+        return ids;
+    }
+
+    public void insertHostMembers(List<Long> crewIds, Long hostId, LocalDateTime joinedAt) {
+        jdbcTemplate.batchUpdate(INSERT_MEMBER, crewIds, crewIds.size(), (ps, crewId) -> {
+            ps.setLong(1, crewId);
+            ps.setLong(2, hostId);
+            ps.setString(3, CrewRole.HOST.name());
+            ps.setObject(4, joinedAt);
+        });
+    }
+}
@@ -10,6 +10,4 @@ public interface CrewMemberRepository extends JpaRepository<CrewMember, Long>
 {
 
     Optional<CrewMember> findByCrewAndUser(RunningCrew crew, User user);
-
-    int countByCrew(RunningCrew crew);
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.sole.domain.crew.repository;
+
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.util.GeoCell;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 모임 목록/주변 검색용 MyBatis 매퍼 (mapper/crew/CrewQueryMapper.xml).
+ * 넘겨받은 조건만 WHERE에 붙이므로 조건 조합마다 맞는 인덱스를 탈 수 있다.
+ * JPA 변경분은 자동 flush되지 않으니 같은 트랜잭션에서 쓰기 직후에 읽는다면 먼저 flush한다.
+ */
+@Mapper
+public interface CrewQueryMapper {
+
+    /**
+     * 조건 검색 한 페이지. orderBy는 CrewService가 허용 목록으로 만든 ORDER BY 절만 받는다.
+     */
+    List<CrewSummaryProjection> search(
+            @Param("regionId") Long regionId,
+            @Param("level") PreferredLevel level,
+            @Param("start") LocalDateTime startDateTime,
+            @Param("end") LocalDateTime endExclusive,
+            @Param("orderBy") String orderBy,
+            @Param("offset") long offset,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 조건에 맞는 모임을 최대 limit건까지 DB 커서로 한 행씩 읽는다 (NDJSON 내보내기).
+     * 트랜잭션 안에서만 순회할 수 있고, 다 읽었거나 중단했으면 닫아야 한다.
+     * MySQL은 이 문장만 fetchSize=Integer.MIN_VALUE(행 단위 스트리밍 결과셋)로 실행해 전체를 버퍼링하지 않는다.
+     */
+    Cursor<CrewSummaryProjection> stream(
+            @Param("regionId") Long regionId,
+            @Param("level") PreferredLevel level,
+            @Param("start") LocalDateTime startDateTime,
+            @Param("end") LocalDateTime endExclusive,
+            @Param("orderBy") String orderBy,
+            @Param("limit") int limit
+    );
+
+    // 지역 필터가 없으면 regions 조인 없이 running_crews만 센다
+    long count(
+            @Param("regionId") Long regionId,
+            @Param("level") PreferredLevel level,
+            @Param("start") LocalDateTime startDateTime,
+            @Param("end") LocalDateTime endExclusive
+    );
+
+    /**
+     * 바운딩 박스를 덮는 GeoCell 구간들로 (geo_cell, meeting_time) 인덱스를 범위 조회한 뒤
+     * 위경도 조건으로 다시 거른다.
+     */
+    List<CrewSummaryProjection> searchWithinBoundingBox(
+            @Param("ranges") List<GeoCell.Range> ranges,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
+            @Param("level") PreferredLevel level,
+            @Param("start") LocalDateTime startDateTime,
+            @Param("end") LocalDateTime endExclusive
+    );
+}
@@ -2,24 +2,23 @@ package com.sole.domain.crew.repository;
 
 import com.sole.domain.crew.entity.RunningCrew;
 import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
-import com.sole.domain.user.entity.PreferredLevel;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface RunningCrewRepository extends JpaRepository<RunningCrew,
-        Long> {
+        Long>, RunningCrewRepositoryCustom {
 
     @EntityGraph(attributePaths = {"host", "region", "members",
             "members.user"})
     Optional<RunningCrew> findWithHostRegionMembersById(Long id);
 
+    // 인메모리 공간 인덱스 적재용 (콜드 스타트/재빌드). 지난 모임은 싣지 않는다
     @Query("""
             select new
   com.sole.domain.crew.repository.projection.CrewSummaryProjection(
@@ -33,55 +32,30 @@ public interface RunningCrewRepository extends JpaRepository<RunningCrew,
                 c.latitude,
                 c.longitude,
                 c.maxParticipants,
-                (select count(cm) from CrewMember cm where cm.crew = c),
+                c.currentParticipants,
                 c.level
             )
             from RunningCrew c
             join c.region r
-            where (:regionId is null or r.id = :regionId)
-              and (:level is null or c.level = :level)
-              and (:start is null or c.meetingTime >= :start)
-              and (:end is null or c.meetingTime < :end)
+            where c.meetingTime >= :from
             """)
-    Page<CrewSummaryProjection> search(
-            @Param("regionId") Long regionId,
-            @Param("level") PreferredLevel level,
-            @Param("start") LocalDateTime startDateTime,
-            @Param("end") LocalDateTime endExclusive,
-            Pageable pageable
-    );
+    List<CrewSummaryProjection> findUpcomingSummaries(@Param("from") LocalDateTime from);
 
+    /**
+     * 정원이 남아 있을 때만 좌석 하나를 예약한다. 영향받은 행이 0이면 정원 초과다.
+     * 조건 검사와 증가가 한 문장이므로 동시 가입이 몰려도 max_participants를 넘지 않는다.
+     */
+    @Modifying
     @Query("""
-              select new
-  com.sole.domain.crew.repository.projection.CrewSummaryProjection(
-                  c.id,
-                  c.title,
-                  r.id,
-                  r.city,
-                  r.district,
-                  c.meetingTime,
-                  c.place,
-                  c.latitude,
-                  c.longitude,
-                  c.maxParticipants,
-                  (select count(cm) from CrewMember cm where cm.crew = c),
-                  c.level
-              )
-              from RunningCrew c
-              join c.region r
-              where c.latitude between :minLat and :maxLat
-                and c.longitude between :minLng and :maxLng
-                and (:level is null or c.level = :level)
-                and (:start is null or c.meetingTime >= :start)
-                and (:end is null or c.meetingTime < :end)
-              """)
-    List<CrewSummaryProjection> searchWithinBoundingBox(
-            @Param("minLat") double minLat,
-            @Param("maxLat") double maxLat,
-            @Param("minLng") double minLng,
-            @Param("maxLng") double maxLng,
-            @Param("level") PreferredLevel level,
-            @Param("start") LocalDateTime startDateTime,
-            @Param("end") LocalDateTime endExclusive
-    );
-}
\ No newline at end of file
+            update RunningCrew c set c.currentParticipants = c.currentParticipants + 1
+            where c.id = :crewId and c.currentParticipants < c.maxParticipants
+            """)
+    int reserveSeat(@Param("crewId") Long crewId);
+
+    @Modifying
+    @Query("""
+            update RunningCrew c set c.currentParticipants = c.currentParticipants - 1
+            where c.id = :crewId and c.currentParticipants > 0
+            """)
+    int releaseSeat(@Param("crewId") Long crewId);
+}
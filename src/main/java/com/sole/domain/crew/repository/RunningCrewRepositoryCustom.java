@@ -0,0 +1,48 @@
+package com.sole.domain.crew.repository;
+
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.crew.repository.projection.NearbyCrewProjection;
+import com.sole.domain.user.entity.PreferredLevel;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 조건에 따라 JPQL을 조립해야 하는 조회 (Spring Data 커스텀 프래그먼트).
+ */
+public interface RunningCrewRepositoryCustom {
+
+    /**
+     * MySQL 전용: location(POINT, SRID 4326)의 SPATIAL 인덱스로 바운딩 박스를 찾고
+     * ST_Distance_Sphere로 반경 필터와 (거리, id) 오름차순 정렬까지 DB에서 끝낸다.
+     * 커서가 있으면 그 (거리, id) 다음 행부터 limit 건만 읽는다.
+     */
+    List<NearbyCrewProjection> searchNearbyWithSpatialIndex(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            double minLat,
+            double maxLat,
+            double minLng,
+            double maxLng,
+            PreferredLevel level,
+            LocalDateTime startDateTime,
+            LocalDateTime endExclusive,
+            Double cursorDistanceKm,
+            Long cursorId,
+            int limit
+    );
+
+    /**
+     * (meeting_time, id) 키셋 페이지 조회. COUNT 없이 limit 건만 읽는다.
+     * 커서가 있으면 그 다음 행부터, 없으면 처음부터 meeting_time, id 오름차순으로 돌려준다.
+     */
+    List<CrewSummaryProjection> scroll(
+            Long regionId,
+            PreferredLevel level,
+            LocalDateTime startDateTime,
+            LocalDateTime endExclusive,
+            LocalDateTime cursorMeetingTime,
+            Long cursorId,
+            int limit
+    );
+}
@@ -0,0 +1,190 @@
+package com.sole.domain.crew.repository;
+
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.crew.repository.projection.NearbyCrewProjection;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.util.DistanceCalculator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class RunningCrewRepositoryCustomImpl implements RunningCrewRepositoryCustom {
+
+    private static final String SELECT_SUMMARY = """
+            select new
+  com.sole.domain.crew.repository.projection.CrewSummaryProjection(
+                c.id,
+                c.title,
+                r.id,
+                r.city,
+                r.district,
+                c.meetingTime,
+                c.place,
+                c.latitude,
+                c.longitude,
+                c.maxParticipants,
+                c.currentParticipants,
+                c.level
+            )
+            from RunningCrew c
+            join c.region r
+            """;
+
+    // 좌표는 모두 long-lat 축 순서로 넘긴다 (SRID 4326 기본 축 순서는 lat-long)
+    private static final String SPATIAL_POINT =
+            "ST_GeomFromText(:center, 4326, 'axis-order=long-lat')";
+
+    private static final String DISTANCE_KM =
+            "ST_Distance_Sphere(c.location, " + SPATIAL_POINT + ", :earthRadiusMeters) / 1000";
+
+    private static final String SELECT_NEARBY_SPATIAL = """
+            select c.id, c.title, r.id, r.city, r.district, c.meeting_time, c.place,
+                   c.latitude, c.longitude, c.max_participants,
+                   c.current_participants,
+                   c.level,
+                   %1$s as distance_km
+            from running_crews c
+            join regions r on r.id = c.region_id
+            where MBRContains(ST_GeomFromText(:box, 4326, 'axis-order=long-lat'), c.location)
+              and ST_Distance_Sphere(c.location, %2$s, :earthRadiusMeters) <= :radiusMeters
+            """.formatted(DISTANCE_KM, SPATIAL_POINT);
+
+    private final EntityManager em;
+
+    @Override
+    public List<CrewSummaryProjection> scroll(
+            Long regionId, PreferredLevel level, LocalDateTime startDateTime, LocalDateTime endExclusive,
+            LocalDateTime cursorMeetingTime, Long cursorId, int limit) {
+        boolean hasCursor = cursorMeetingTime != null && cursorId != null;
+
+        // 넘겨받은 조건만 붙여 (region_id, meeting_time) 인덱스를 범위 스캔하게 한다
+        StringBuilder jpql = new StringBuilder(SELECT_SUMMARY).append("where 1 = 1");
+        if (regionId != null) {
+            jpql.append(" and r.id = :regionId");
+        }
+        if (level != null) {
+            jpql.append(" and c.level = :level");
+        }
+        if (startDateTime != null) {
+            jpql.append(" and c.meetingTime >= :start");
+        }
+        if (endExclusive != null) {
+            jpql.append(" and c.meetingTime < :end");
+        }
+        if (hasCursor) {
+            // 앞의 >= 는 인덱스 범위 조건, 뒤의 OR는 같은 시각 안에서 id로 이어 붙이기 위한 조건
+            jpql.append(" and c.meetingTime >= :cursorTime")
+                    .append(" and (c.meetingTime > :cursorTime or c.id > :cursorId)");
+        }
+        jpql.append(" order by c.meetingTime asc, c.id asc");
+
+        TypedQuery<CrewSummaryProjection> query =
+                em.createQuery(jpql.toString(), CrewSummaryProjection.class);
+        if (regionId != null) {
+            query.setParameter("regionId", regionId);
+        }
+        if (level != null) {
+            query.setParameter("level", level);
+        }
+        if (startDateTime != null) {
+            query.setParameter("start", startDateTime);
+        }
+        if (endExclusive != null) {
+            query.setParameter("end", endExclusive);
+        }
+        if (hasCursor) {
+            query.setParameter("cursorTime", cursorMeetingTime);
+            query.setParameter("cursorId", cursorId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<NearbyCrewProjection> searchNearbyWithSpatialIndex(
+            double latitude, double longitude, double radiusKm,
+            double minLat, double maxLat, double minLng, double maxLng,
+            PreferredLevel level, LocalDateTime startDateTime, LocalDateTime endExclusive,
+            Double cursorDistanceKm, Long cursorId, int limit) {
+        boolean hasCursor = cursorDistanceKm != null && cursorId != null;
+
+        StringBuilder sql = new StringBuilder(SELECT_NEARBY_SPATIAL);
+        if (level != null) {
+            sql.append(" and c.level = :level");
+        }
+        if (startDateTime != null) {
+            sql.append(" and c.meeting_time >= :start");
+        }
+        if (endExclusive != null) {
+            sql.append(" and c.meeting_time < :end");
+        }
+        if (hasCursor) {
+            sql.append(" and (").append(DISTANCE_KM).append(" > :cursorDistance or (")
+                    .append(DISTANCE_KM).append(" = :cursorDistance and c.id > :cursorId))");
+        }
+        sql.append(" order by distance_km, c.id");
+
+        Query query = em.createNativeQuery(sql.toString());
+        query.setParameter("center", "POINT(" + plain(longitude) + " " + plain(latitude) + ")");
+        query.setParameter("box", "POLYGON(("
+                + plain(minLng) + " " + plain(minLat) + ", "
+                + plain(maxLng) + " " + plain(minLat) + ", "
+                + plain(maxLng) + " " + plain(maxLat) + ", "
+                + plain(minLng) + " " + plain(maxLat) + ", "
+                + plain(minLng) + " " + plain(minLat) + "))");
+        query.setParameter("earthRadiusMeters", DistanceCalculator.earthRadiusKm() * 1000);
+        query.setParameter("radiusMeters", radiusKm * 1000);
+        if (level != null) {
+            query.setParameter("level", level.name());
+        }
+        if (startDateTime != null) {
+            query.setParameter("start", startDateTime);
+        }
+        if (endExclusive != null) {
+            query.setParameter("end", endExclusive);
+        }
+        if (hasCursor) {
+            query.setParameter("cursorDistance", cursorDistanceKm);
+            query.setParameter("cursorId", cursorId);
+        }
+
+        List<Object[]> rows = query.setMaxResults(limit).getResultList();
+        return rows.stream()
+                .map(row -> new NearbyCrewProjection(
+                        new CrewSummaryProjection(
+                                ((Number) row[0]).longValue(),
+                                (String) row[1],
+                                ((Number) row[2]).longValue(),
+                                (String) row[3],
+                                (String) row[4],
+                                toLocalDateTime(row[5]),
+                                (String) row[6],
+                                ((Number) row[7]).doubleValue(),
+                                ((Number) row[8]).doubleValue(),
+                                ((Number) row[9]).intValue(),
+                                ((Number) row[10]).longValue(),
+                                PreferredLevel.valueOf((String) row[11])
+                        ),
+                        ((Number) row[12]).doubleValue()
+                ))
+                .toList();
+    }
+
+    // WKT에 지수 표기(1.0E-4)가 섞이지 않도록 고정 소수점 문자열로 만든다
+    private static String plain(double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sole.domain.crew.repository.projection;
+
+/**
+ * DB에서 거리 계산까지 끝낸 주변 모임 조회 결과 (SPATIAL 백엔드).
+ */
+public record NearbyCrewProjection(
+        CrewSummaryProjection summary,
+        double distanceKm
+) {
+}
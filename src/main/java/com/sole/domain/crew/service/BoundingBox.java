@@ -0,0 +1,12 @@
+package com.sole.domain.crew.service;
+
+/**
+ * 반경 검색의 1차 후보를 거르는 위경도 사각 범위.
+ */
+record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+
+    boolean contains(double latitude, double longitude) {
+        return latitude >= minLat && latitude <= maxLat
+                && longitude >= minLng && longitude <= maxLng;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sole.domain.crew.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sole.domain.crew.dto.CrewSearchCondition;
+import java.util.function.LongSupplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 검색 조건별 모임 전체 건수 캐시.
+ * 정확한 건수보다 페이지 이동 비용이 중요한 화면용이라 짧은 TTL 동안은 약간 오래된 값을 허용하고,
+ * 모임 생성/수정/삭제 시에는 통째로 비운다 (참여/탈퇴는 건수에 영향이 없다).
+ */
+@Component
+public class CrewCountCache {
+
+    private final Cache<CrewSearchCondition, Long> totals;
+
+    public CrewCountCache(CrewListProperties properties) {
+        this.totals = Caffeine.newBuilder()
+                .expireAfterWrite(properties.countCacheTtl())
+                .maximumSize(properties.countCacheMaximumSize())
+                .build();
+    }
+
+    public long get(CrewSearchCondition condition, LongSupplier counter) {
+        return totals.get(condition, key -> counter.getAsLong());
+    }
+
+    /**
+     * 모든 건수를 비운다. 트랜잭션 안이면 커밋 전에 다른 요청이 옛 건수로 다시 채울 수 있으므로
+     * 완료 직후 한 번 더 비운다.
+     */
+    public void invalidateAll() {
+        totals.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    totals.invalidateAll();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sole.domain.crew.service;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.CrewImportResponse.RowError;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import com.sole.global.util.CsvReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 모임 일괄 등록 CSV를 CrewCreateRequest 목록으로 바꾼다.
+ * 첫 줄은 헤더이고 열 순서는 자유다(description 열은 생략 가능, 모르는 열은 무시).
+ * 값을 읽지 못한 행은 목록에 null로 두고 사유를 errors에 남겨 JSON 입력과 같은 행 번호 체계를 유지한다.
+ * 빈 값은 null로 읽어 필수 여부는 Bean Validation이 판단하게 한다.
+ */
+public final class CrewCsvParser {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "title", "regionId", "meetingTime", "place", "latitude", "longitude", "maxParticipants", "level");
+
+    private CrewCsvParser() {
+    }
+
+    public record Result(List<CrewCreateRequest> rows, List<RowError> errors) {
+    }
+
+    public static Result parse(Reader reader, int maxRows) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        Map<String, Integer> columns = header(csv);
+
+        List<CrewCreateRequest> rows = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+        List<String> fields;
+        while ((fields = next(csv, rows.size() + 1)) != null) {
+            if (rows.size() == maxRows) {
+                throw new BusinessException(ErrorCode.CREW_IMPORT_TOO_LARGE);
+            }
+            Row row = new Row(columns, fields);
+            try {
+                rows.add(new CrewCreateRequest(
+                        row.text("title"),
+                        row.text("description"),
+                        row.value("regionId", Long::valueOf),
+                        row.value("meetingTime", LocalDateTime::parse),
+                        row.text("place"),
+                        row.value("latitude", Double::valueOf),
+                        row.value("longitude", Double::valueOf),
+                        row.value("maxParticipants", Integer::valueOf),
+                        row.value("level", value -> PreferredLevel.valueOf(value.toUpperCase(Locale.ROOT)))
+                ));
+            } catch (InvalidValueException e) {
+                rows.add(null);
+                errors.add(new RowError(rows.size(), e.getMessage()));
+            }
+        }
+        return new Result(rows, errors);
+    }
+
+    private static Map<String, Integer> header(CsvReader csv) throws IOException {
+        List<String> names = next(csv, 0);
+        if (names == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 헤더가 없습니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).strip(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 헤더에 없는 열: " + missing);
+        }
+        return columns;
+    }
+
+    private static List<String> next(CsvReader csv, int row) throws IOException {
+        try {
+            return csv.next();
+        } catch (IllegalArgumentException e) {
+            // 닫히지 않은 따옴표는 이후 행 경계를 알 수 없으므로 요청 전체를 거절한다
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, row + "행: " + e.getMessage());
+        }
+    }
+
+    private record Row(Map<String, Integer> columns, List<String> fields) {
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        <T> T value(String column, Function<String, T> parser) {
+            String text = text(column);
+            if (text == null || text.isBlank()) {
+                return null;
+            }
+            try {
+                return parser.apply(text.strip());
+            } catch (RuntimeException e) {
+                throw new InvalidValueException(column + ": 형식이 올바르지 않습니다. (" + text + ")");
+            }
+        }
+    }
+
+    private static final class InvalidValueException extends RuntimeException {
+
+        InvalidValueException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sole.domain.crew.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sole.domain.crew.dto.CrewDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 모임 상세 응답 read-through 캐시 (TTL + 최대 건수).
+ * 변경 트랜잭션은 즉시 한 번, 커밋 직후 한 번 더 비워서
+ * 커밋 전에 다른 요청이 옛 데이터를 다시 채워 넣은 경우까지 정리한다.
+ * 적중/미스/축출 수는 cache.* 메트릭(cache=crew.detail)으로 노출한다.
+ */
+@Component
+public class CrewDetailCache {
+
+    static final String CACHE_NAME = "crew.detail";
+
+    private final Cache<Long, CrewDetailResponse> details;
+
+    public CrewDetailCache(CrewDetailCacheProperties properties, MeterRegistry meterRegistry) {
+        this.details = Caffeine.newBuilder()
+                .expireAfterWrite(properties.cacheTtl())
+                .maximumSize(properties.cacheMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, CACHE_NAME);
+    }
+
+    // loader가 예외를 던지면(없는 모임 등) 캐시에 남기지 않는다
+    public CrewDetailResponse get(Long crewId, Function<Long, CrewDetailResponse> loader) {
+        return details.get(crewId, loader);
+    }
+
+    public void evict(Long crewId) {
+        details.invalidate(crewId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    details.invalidate(crewId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sole.domain.crew.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 모임 상세 캐시 설정 (sole.crew.detail.*).
+ */
+@ConfigurationProperties(prefix = "sole.crew.detail")
+public record CrewDetailCacheProperties(
+        @DefaultValue("PT5M") Duration cacheTtl,
+        @DefaultValue("10000") long cacheMaximumSize
+) {
+}
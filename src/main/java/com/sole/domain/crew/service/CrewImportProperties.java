@@ -0,0 +1,18 @@
+package com.sole.domain.crew.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 모임 일괄 등록 설정 (sole.crew.import.*).
+ * batchSize 행마다 JDBC 배치 한 번으로 보내고(MySQL은 rewriteBatchedStatements로 multi-row INSERT가 된다),
+ * 한 요청에 maxRows를 넘는 행은 받지 않는다.
+ * 로그인한 누구나 한 번에 수만 건을 쓸 수 있는 API라 기본은 꺼 두고(enabled=false), 필요한 환경에서만 켠다.
+ */
+@ConfigurationProperties(prefix = "sole.crew.import")
+public record CrewImportProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100000") int maxRows
+) {
+}
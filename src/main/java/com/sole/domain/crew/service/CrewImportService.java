@@ -0,0 +1,156 @@
+package com.sole.domain.crew.service;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.CrewImportResponse;
+import com.sole.domain.crew.dto.CrewImportResponse.RowError;
+import com.sole.domain.crew.repository.CrewBulkInsertRepository;
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파트너 데이터 같은 대량 모임 등록.
+ * 행마다 CrewCreateRequest 제약을 검사하고, 지역은 한 번의 IN 조회로 확인한 뒤
+ * 통과한 행만 batchSize 단위 JDBC 배치로 모임과 호스트 멤버를 INSERT한다.
+ * 실패한 행은 건너뛰고 행 번호와 사유를 돌려주며, 등록은 한 트랜잭션이라 도중에 DB 오류가 나면 모두 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrewImportService {
+
+    private final CrewBulkInsertRepository crewBulkInsertRepository;
+    private final UserRepository userRepository;
+    private final RegionRepository regionRepository;
+    private final CrewSpatialIndex crewSpatialIndex;
+    private final CrewCountCache crewCountCache;
+    private final NearbyCandidateCache nearbyCandidateCache;
+    private final CrewImportProperties properties;
+    private final Validator validator;
+
+    /**
+     * rows의 null 항목은 읽지 못한 행이다. 사유는 rejected(CSV 파싱 오류)에 있고, 없으면 빈 행으로 보고한다.
+     */
+    @Transactional
+    public CrewImportResponse importCrews(Long hostUserId, List<CrewCreateRequest> rows, List<RowError> rejected) {
+        if (rows.size() > properties.maxRows()) {
+            throw new BusinessException(ErrorCode.CREW_IMPORT_TOO_LARGE);
+        }
+        if (!userRepository.existsById(hostUserId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        List<RowError> errors = new ArrayList<>(rejected);
+        Set<Integer> rejectedRows = rejected.stream().map(RowError::row).collect(Collectors.toSet());
+        List<Integer> valid = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            CrewCreateRequest row = rows.get(i);
+            if (row == null) {
+                if (!rejectedRows.contains(i + 1)) {
+                    errors.add(new RowError(i + 1, "빈 행입니다."));
+                }
+                continue;
+            }
+            String violations = validate(row);
+            if (violations != null) {
+                errors.add(new RowError(i + 1, violations));
+            } else {
+                valid.add(i);
+            }
+        }
+
+        Map<Long, Region> regions = loadRegions(rows, valid);
+        List<CrewCreateRequest> accepted = new ArrayList<>(valid.size());
+        for (int index : valid) {
+            CrewCreateRequest row = rows.get(index);
+            if (regions.containsKey(row.regionId())) {
+                accepted.add(row);
+            } else {
+                errors.add(new RowError(index + 1, "regionId: " + ErrorCode.REGION_NOT_FOUND.getMessage()));
+            }
+        }
+
+        insert(hostUserId, accepted, regions);
+        errors.sort(Comparator.comparingInt(RowError::row));
+        return new CrewImportResponse(rows.size(), accepted.size(), errors);
+    }
+
+    private void insert(Long hostUserId, List<CrewCreateRequest> rows, Map<Long, Region> regions) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<CrewSummaryProjection> summaries = new ArrayList<>(crewSpatialIndex.isEnabled() ? rows.size() : 0);
+        for (int from = 0; from < rows.size(); from += properties.batchSize()) {
+            List<CrewCreateRequest> chunk = rows.subList(from, Math.min(from + properties.batchSize(), rows.size()));
+            List<Long> ids = crewBulkInsertRepository.insertCrews(hostUserId, chunk, now);
+            crewBulkInsertRepository.insertHostMembers(ids, hostUserId, now);
+            if (crewSpatialIndex.isEnabled()) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    summaries.add(summary(ids.get(i), chunk.get(i), regions.get(chunk.get(i).regionId())));
+                }
+            }
+        }
+        crewSpatialIndex.insertAll(summaries);
+        crewCountCache.invalidateAll();
+        nearbyCandidateCache.invalidateAll();
+    }
+
+    private String validate(CrewCreateRequest row) {
+        Set<ConstraintViolation<CrewCreateRequest>> violations = validator.validate(row);
+        List<String> messages = violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        // 엔티티 컬럼이 NOT NULL이라 단건 API와 달리 여기서 막는다
+        if (row.maxParticipants() == null) {
+            messages.add("maxParticipants: 필수 값입니다.");
+        }
+        return messages.isEmpty() ? null : String.join(", ", messages);
+    }
+
+    private Map<Long, Region> loadRegions(List<CrewCreateRequest> rows, List<Integer> valid) {
+        Set<Long> ids = new HashSet<>();
+        for (int index : valid) {
+            ids.add(rows.get(index).regionId());
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return regionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Region::getId, Function.identity()));
+    }
+
+    private static CrewSummaryProjection summary(Long id, CrewCreateRequest row, Region region) {
+        return new CrewSummaryProjection(
+                id,
+                row.title(),
+                region.getId(),
+                region.getCity(),
+                region.getDistrict(),
+                row.meetingTime(),
+                row.place(),
+                row.latitude(),
+                row.longitude(),
+                row.maxParticipants(),
+                1,
+                row.level()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.sole.domain.crew.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 모임 목록 조회 설정 (sole.crew.list.*).
+ * 전체 건수는 검색 조건별로 짧게 캐시해 페이지를 넘길 때마다 다시 세지 않는다.
+ */
+@ConfigurationProperties(prefix = "sole.crew.list")
+public record CrewListProperties(
+        @DefaultValue("PT30S") Duration countCacheTtl,
+        @DefaultValue("1000") long countCacheMaximumSize
+) {
+}
@@ -1,44 +1,74 @@
 package com.sole.domain.crew.service;
 
 import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.CrewCursor;
 import com.sole.domain.crew.dto.CrewDetailResponse;
 import com.sole.domain.crew.dto.CrewSearchCondition;
 import com.sole.domain.crew.dto.CrewSummaryResponse;
 import com.sole.domain.crew.dto.CrewUpdateRequest;
 import com.sole.domain.crew.dto.NearbyCrewRequest;
 import com.sole.domain.crew.dto.NearbyCrewResponse;
+import com.sole.domain.crew.dto.NearbyCursor;
 import com.sole.domain.crew.entity.CrewMember;
 import com.sole.domain.crew.entity.CrewRole;
 import com.sole.domain.crew.entity.RunningCrew;
 import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.CrewQueryMapper;
 import com.sole.domain.crew.repository.RunningCrewRepository;
 import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
 import com.sole.domain.region.entity.Region;
 import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
 import com.sole.domain.user.entity.User;
 import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.common.CursorResponse;
 import com.sole.global.common.ErrorCode;
 import com.sole.global.exception.BusinessException;
+import com.sole.global.util.BatchDistance;
 import com.sole.global.util.DistanceCalculator;
+import com.sole.global.util.GeoCell;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+// public 메서드별 실행 시간 (sole.crew.service{class, method, exception}), 트랜잭션 커밋 시간까지 포함
+@Timed(value = "sole.crew.service", histogram = true)
 public class CrewService {
 
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "meetingTime", "c.meeting_time",
+            "id", "c.id"
+    );
+
     private final RunningCrewRepository runningCrewRepository;
     private final CrewMemberRepository crewMemberRepository;
     private final UserRepository userRepository;
     private final RegionRepository regionRepository;
+    private final CrewSpatialIndex crewSpatialIndex;
+    private final NearbySearchMode nearbySearchMode;
+    private final CrewCountCache crewCountCache;
+    private final CrewQueryMapper crewQueryMapper;
+    private final CrewDetailCache crewDetailCache;
+    private final NearbyCandidateCache nearbyCandidateCache;
+    private final CrewStreamProperties crewStreamProperties;
 
     @Transactional
     public Long createCrew(Long hostUserId, CrewCreateRequest request) {
@@ -68,33 +98,119 @@ public class CrewService {
                 .build();
         crew.addMember(hostMember);
 
-        runningCrewRepository.save(crew);
+        runningCrewRepository.save(crew); // 호스트 1명이 current_participants 초기값으로 함께 INSERT된다
+        crewSpatialIndex.upsert(crew, crew.getCurrentParticipants());
+        crewCountCache.invalidateAll();
+        nearbyCandidateCache.invalidate(crew.getLatitude(), crew.getLongitude());
         return crew.getId();
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 조회한다 (엔티티 그래프로 연관을 한 번에 읽어 지연 로딩이 없다)
     public CrewDetailResponse getCrewDetail(Long crewId) {
-        RunningCrew crew =
-                runningCrewRepository.findWithHostRegionMembersById(crewId)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.CREW_NOT_FOUND));
-        return CrewDetailResponse.from(crew);
+        return crewDetailCache.get(crewId, id -> {
+            RunningCrew crew =
+                    runningCrewRepository.findWithHostRegionMembersById(id)
+                            .orElseThrow(() -> new BusinessException(ErrorCode.CREW_NOT_FOUND));
+            return CrewDetailResponse.from(crew);
+        });
     }
 
     @Transactional(readOnly = true)
     public Page<CrewSummaryResponse> getCrews(CrewSearchCondition condition, Pageable pageable) {
-        return runningCrewRepository.search(
-                        condition.regionId(),
-                        condition.level(),
-                        condition.startDateTime(),
-                        condition.endDateTimeExclusive(),
-                        pageable
+        Slice<CrewSummaryProjection> slice = searchSlice(condition, pageable);
+        // 마지막 페이지처럼 건수를 내용으로 알 수 있으면 세지 않고, 필요할 때만 캐시를 거쳐 센다
+        return PageableExecutionUtils.getPage(
+                        slice.getContent(),
+                        pageable,
+                        () -> crewCountCache.get(condition, () -> crewQueryMapper.count(
+                                condition.regionId(),
+                                condition.level(),
+                                condition.startDateTime(),
+                                condition.endDateTimeExclusive()
+                        ))
                 )
                 .map(CrewSummaryResponse::from);
     }
 
+    // 전체 건수를 보여주지 않는 클라이언트용: COUNT 없이 다음 페이지 존재 여부만 돌려준다
+    @Transactional(readOnly = true)
+    public Slice<CrewSummaryResponse> getCrewSlice(CrewSearchCondition condition, Pageable pageable) {
+        return searchSlice(condition, pageable).map(CrewSummaryResponse::from);
+    }
+
+    /**
+     * 조건에 맞는 모임을 DB 커서에서 읽는 대로 sink에 넘긴다 (페이지 없음).
+     * 한 번에 한 행만 들고 있으므로 결과 크기와 상관없이 메모리가 일정하다.
+     * 정렬 검증은 첫 행을 읽기 전에 하므로 잘못된 요청은 응답을 쓰기 전에 실패한다.
+     * <p>
+     * 커넥션을 쥐는 시간을 묶기 위해 maxRows를 넘는 행이 있거나 maxDuration이 지나면 중단한다
+     * (이미 보낸 줄 뒤에 오류 줄이 붙는다). 읽지 않는 클라이언트에 막힌 쓰기는 컨테이너 쓰기 타임아웃이 끊는다.
+     */
+    @Transactional(readOnly = true)
+    public void streamCrews(CrewSearchCondition condition, Sort sort, Consumer<CrewSummaryResponse> sink) {
+        String orderBy = orderBy(sort);
+        int maxRows = crewStreamProperties.maxRows();
+        long deadline = System.nanoTime() + crewStreamProperties.maxDuration().toNanos();
+        try (Cursor<CrewSummaryProjection> rows = crewQueryMapper.stream(
+                condition.regionId(),
+                condition.level(),
+                condition.startDateTime(),
+                condition.endDateTimeExclusive(),
+                orderBy,
+                maxRows + 1 // 한 행 더 읽어 잘렸는지 안다
+        )) {
+            int written = 0;
+            for (CrewSummaryProjection row : rows) {
+                if (written == maxRows) {
+                    throw new BusinessException(ErrorCode.CREW_STREAM_LIMIT_EXCEEDED);
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    throw new BusinessException(ErrorCode.CREW_STREAM_TIMEOUT);
+                }
+                sink.accept(CrewSummaryResponse.from(row));
+                written++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 커서 기반 목록 조회. size + 1건을 읽어 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 없다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CrewSummaryResponse> getCrewsByCursor(
+            CrewSearchCondition condition, String cursor, int size) {
+        CrewCursor after = cursor == null || cursor.isBlank() ? null : CrewCursor.decode(cursor);
+
+        List<CrewSummaryProjection> rows = runningCrewRepository.scroll(
+                condition.regionId(),
+                condition.level(),
+                condition.startDateTime(),
+                condition.endDateTimeExclusive(),
+                after == null ? null : after.meetingTime(),
+                after == null ? null : after.id(),
+                size + 1
+        );
+
+        boolean hasNext = rows.size() > size;
+        List<CrewSummaryProjection> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CrewSummaryProjection last = page.get(page.size() - 1);
+            nextCursor = new CrewCursor(last.meetingTime(), last.id()).encode();
+        }
+        return CursorResponse.of(
+                page.stream().map(CrewSummaryResponse::from).toList(),
+                size,
+                nextCursor
+        );
+    }
+
     @Transactional
     public void updateCrew(Long crewId, Long requesterId, CrewUpdateRequest request) {
         RunningCrew crew = loadCrewAndValidateHost(crewId, requesterId);
+        nearbyCandidateCache.invalidate(crew.getLatitude(), crew.getLongitude()); // 이동 전 위치
 
         Region region = regionRepository.findById(request.regionId())
                 .orElseThrow(() -> new
@@ -111,12 +227,20 @@ public class CrewService {
                 request.maxParticipants(),
                 request.level()
         );
+        crewSpatialIndex.update(crew); // 참여 인원은 인덱스 값 유지 (그 사이 커밋된 가입/탈퇴 보존)
+        crewCountCache.invalidateAll(); // 지역/레벨/일시가 바뀌면 조건별 건수가 달라진다
+        crewDetailCache.evict(crewId);
+        nearbyCandidateCache.invalidate(crew.getLatitude(), crew.getLongitude());
     }
 
     @Transactional
     public void deleteCrew(Long crewId, Long requesterId) {
         RunningCrew crew = loadCrewAndValidateHost(crewId, requesterId);
         runningCrewRepository.delete(crew); //members는 cascade로 함께 삭제
+        crewSpatialIndex.remove(crewId);
+        crewCountCache.invalidateAll();
+        crewDetailCache.evict(crewId);
+        nearbyCandidateCache.invalidate(crew.getLatitude(), crew.getLongitude());
     }
 
     @Transactional
@@ -130,8 +254,14 @@ public class CrewService {
             throw new BusinessException(ErrorCode.CREW_MEMBER_ALREADY_JOINED);
         });
 
-        int currentCount = crewMemberRepository.countByCrew(crew);
-        crew.validateCapacity(currentCount); // 정원 초과 시 예외
+        crew.validateCapacity(crew.getCurrentParticipants()); // 이미 꽉 찬 모임은 락 없이 빠르게 거절
+
+        // 좌석 예약(조건부 UPDATE)을 멤버 INSERT보다 먼저 한다. INSERT의 외래 키 검사는 모임 행에 공유 락을 거는데,
+        // INSERT를 먼저 하면 동시 가입자들이 공유 락을 쥔 채 서로의 배타 락(UPDATE)을 기다리며 교착에 빠진다.
+        // 배타 락을 먼저 잡으면 같은 모임의 가입은 커밋 순서대로 줄을 선다.
+        if (runningCrewRepository.reserveSeat(crewId) == 0) {
+            throw new BusinessException(ErrorCode.CREW_MEMBER_LIMIT_EXCEEDED);
+        }
 
         CrewMember member = CrewMember.builder()
                 .user(user)
@@ -140,7 +270,11 @@ public class CrewService {
                 .build();
 
         crew.addMember(member);
-        crewMemberRepository.saveAndFlush(member); // 중복 레이스는 DB 제약으로 막고 전역 핸들러에서 매핑
+        // 중복 레이스는 DB 제약으로 막고 전역 핸들러에서 매핑한다. 롤백되며 위 좌석 예약도 취소된다
+        crewMemberRepository.saveAndFlush(member);
+        crewSpatialIndex.adjustParticipants(crewId, 1);
+        crewDetailCache.evict(crewId);
+        nearbyCandidateCache.invalidate(crew.getLatitude(), crew.getLongitude()); // 응답의 참여 인원이 바뀐다
     }
 
     @Transactional
@@ -160,40 +294,125 @@ public class CrewService {
         }
 
         crewMemberRepository.delete(member);
-        crew.getMembers().remove(member); // 컬렉션 캐시 정합성 유지
+        crew.removeMember(member); // 컬렉션 캐시 정합성 유지
+        runningCrewRepository.releaseSeat(crewId);
+        crewSpatialIndex.adjustParticipants(crewId, -1);
+        crewDetailCache.evict(crewId);
+        nearbyCandidateCache.invalidate(crew.getLatitude(), crew.getLongitude());
     }
 
+    /**
+     * 반경 안 모임을 (거리, id) 오름차순으로 limit개씩 돌려준다.
+     * 다음 페이지는 마지막 (거리, id) 뒤부터 이어진다.
+     */
     @Transactional(readOnly = true)
-    public List<NearbyCrewResponse> getNearbyCrews(NearbyCrewRequest request)
+    public CursorResponse<NearbyCrewResponse> getNearbyCrews(NearbyCrewRequest request)
     {
         BoundingBox box = calculateBoundingBox(
                 request.latitude(),
                 request.longitude(),
                 request.radiusKm()
         );
-
-        List<CrewSummaryProjection> candidates =
-                runningCrewRepository.searchWithinBoundingBox(
-                        box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+        NearbyCursor after = request.after();
+        int limit = request.limitOrDefault();
+
+        List<NearbyCrewResponse> rows;
+        if (nearbySearchMode.usesSpatial()) {
+            // 반경 필터, 거리 계산, 정렬, 커서 이후 limit까지 MySQL SPATIAL 인덱스 경로에서 끝낸다
+            rows = runningCrewRepository.searchNearbyWithSpatialIndex(
+                            request.latitude(), request.longitude(), request.radiusKm(),
+                            box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                            request.level(),
+                            request.startDateTime(),
+                            request.endDateTimeExclusive(),
+                            after == null ? null : after.distanceKm(),
+                            after == null ? null : after.id(),
+                            limit + 1
+                    ).stream()
+                    .map(nearby -> NearbyCrewResponse.of(nearby.summary(), nearby.distanceKm()))
+                    .toList();
+        } else {
+            // 인덱스가 켜져 있으면 DB 왕복 없이 메모리 격자에서 후보를 고르고,
+            // DB 조회라면 양자화 키 단위로 캐시된 후보를 재사용한다.
+            // 인덱스는 다가올 모임만 들고 있으므로 그보다 이른 시작 시각은 DB에서 읽는다
+            List<CrewSummaryProjection> candidates;
+            if (crewSpatialIndex.isEnabled() && crewSpatialIndex.covers(request.startDateTime())) {
+                candidates = crewSpatialIndex.search(
+                        box,
                         request.level(),
                         request.startDateTime(),
-                        request.endDateTimeExclusive()
-                );
-
-        return candidates.stream()
-                .map(summary -> {
-                    double distanceKm = DistanceCalculator.haversineKm(
-                            request.latitude(), request.longitude(),
-                            summary.latitude(), summary.longitude()
-                    );
-                    return NearbyCrewResponse.of(summary, distanceKm);
-                })
-                .filter(resp -> resp.distanceKm() <= request.radiusKm())
-                .sorted(Comparator.comparingDouble(NearbyCrewResponse::distanceKm))
-                .collect(Collectors.toList());
-    }
-
-    private BoundingBox calculateBoundingBox(double lat, double lng, double radiusKm) {
+                        request.endDateTimeExclusive());
+            } else if (nearbyCandidateCache.isEnabled()) {
+                candidates = nearbyCandidateCache.candidates(request, this::searchWithinBoundingBox);
+            } else {
+                candidates = searchWithinBoundingBox(
+                        box, request.level(), request.startDateTime(), request.endDateTimeExclusive());
+            }
+            rows = rankByDistance(candidates, request.latitude(), request.longitude(), request.radiusKm(),
+                    after, limit + 1);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<NearbyCrewResponse> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            NearbyCrewResponse last = page.get(page.size() - 1);
+            nextCursor = new NearbyCursor(last.distanceKm(), last.crewId()).encode();
+        }
+        return CursorResponse.of(page, limit, nextCursor);
+    }
+
+    /**
+     * 후보 좌표를 배열로 모아 한 번에 반경 필터링하고, 커서 뒤의 가까운 limit개만 고정 크기 힙으로 고른다.
+     * 응답 객체는 고른 후보에 대해서만 만든다.
+     */
+    static List<NearbyCrewResponse> rankByDistance(List<CrewSummaryProjection> candidates,
+                                                   double lat, double lng, double radiusKm,
+                                                   NearbyCursor after, int limit) {
+        int count = candidates.size();
+        double[] lats = new double[count];
+        double[] lngs = new double[count];
+        for (int i = 0; i < count; i++) {
+            CrewSummaryProjection candidate = candidates.get(i);
+            lats[i] = candidate.latitude();
+            lngs[i] = candidate.longitude();
+        }
+
+        int[] indexes = new int[count];
+        double[] distances = new double[count];
+        int found = BatchDistance.withinRadius(lat, lng, radiusKm, lats, lngs, count, indexes, distances);
+
+        long[] ids = new long[found];
+        for (int i = 0; i < found; i++) {
+            ids[i] = candidates.get(indexes[i]).id();
+        }
+        NearestCrews nearest = new NearestCrews(Math.min(limit, found), distances, ids);
+        for (int i = 0; i < found; i++) {
+            if (after == null || after.precedes(distances[i], ids[i])) {
+                nearest.offer(i);
+            }
+        }
+
+        int[] selected = nearest.drainSorted();
+        List<NearbyCrewResponse> result = new ArrayList<>(selected.length);
+        for (int position : selected) {
+            result.add(NearbyCrewResponse.of(candidates.get(indexes[position]), distances[position]));
+        }
+        return result;
+    }
+
+    private List<CrewSummaryProjection> searchWithinBoundingBox(
+            BoundingBox box, PreferredLevel level, LocalDateTime start, LocalDateTime endExclusive) {
+        return crewQueryMapper.searchWithinBoundingBox(
+                GeoCell.rangesCovering(box.minLat(), box.maxLat(), box.minLng(), box.maxLng()),
+                box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                level,
+                start,
+                endExclusive
+        );
+    }
+
+    static BoundingBox calculateBoundingBox(double lat, double lng, double radiusKm) {
         double earthRadiusKm = DistanceCalculator.earthRadiusKm();
         double latDelta = Math.toDegrees(radiusKm / earthRadiusKm);
         double lngDelta = Math.toDegrees(radiusKm / earthRadiusKm / Math.cos(Math.toRadians(lat)));
@@ -205,11 +424,38 @@ public class CrewService {
         return new BoundingBox(minLat, maxLat, minLng, maxLng);
     }
 
-    private double clamp(double value, double min, double max) {
+    private static double clamp(double value, double min, double max) {
         return Math.max(min, Math.min(max, value));
     }
 
-    private record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {}
+    // size + 1건을 읽어 다음 페이지 존재 여부를 판단한다
+    private Slice<CrewSummaryProjection> searchSlice(CrewSearchCondition condition, Pageable pageable) {
+        List<CrewSummaryProjection> rows = crewQueryMapper.search(
+                condition.regionId(),
+                condition.level(),
+                condition.startDateTime(),
+                condition.endDateTimeExclusive(),
+                orderBy(pageable.getSort()),
+                pageable.getOffset(),
+                pageable.getPageSize() + 1
+        );
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<CrewSummaryProjection> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // 정렬은 허용된 속성만 컬럼으로 바꿔 SQL에 넣고, 같은 값끼리는 id로 순서를 고정한다
+    static String orderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String column = SORTABLE_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            orderBy.append(column).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        return orderBy.append("c.id ASC").toString();
+    }
 
     private RunningCrew loadCrewAndValidateHost(Long crewId, Long requesterId) {
         RunningCrew crew = runningCrewRepository.findById(crewId)
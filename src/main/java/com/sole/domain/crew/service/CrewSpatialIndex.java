@@ -0,0 +1,330 @@
+package com.sole.domain.crew.service;
+
+import com.sole.domain.crew.entity.RunningCrew;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.util.GeoCell;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주변 모임 검색용 인메모리 격자(GeoCell) 인덱스.
+ * 최초 조회(콜드 스타트)와 주기적 재빌드 때만 DB를 읽고, 이후에는 모임 생성/수정/삭제/참여 시점에 갱신한다.
+ * 트랜잭션 안의 변경은 커밋 직후에 반영하므로 검색에는 커밋된 모임만 보이고, 롤백된 변경은 아예 반영되지 않는다.
+ * 모임 시각이 지금 - gracePeriod 이후인 모임만 다루며, 그 사이 지난 모임은 검색에서 거르고 재빌드 때 버린다.
+ */
+@Component
+public class CrewSpatialIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CrewSpatialIndex.class);
+
+    private final RunningCrewRepository runningCrewRepository;
+    private final NearbySearchMode nearbySearchMode;
+    private final Duration gracePeriod;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Grid grid; // null이면 아직 적재 전
+    private List<Consumer<Grid>> pendingDuringRebuild; // 재빌드 중 들어온 변경, this로 보호
+
+    public CrewSpatialIndex(RunningCrewRepository runningCrewRepository,
+                            NearbySearchProperties properties,
+                            NearbySearchMode nearbySearchMode) {
+        this.runningCrewRepository = runningCrewRepository;
+        this.nearbySearchMode = nearbySearchMode;
+        this.gracePeriod = properties.indexGracePeriod();
+    }
+
+    public boolean isEnabled() {
+        return nearbySearchMode.usesIndex();
+    }
+
+    /**
+     * 요청한 시작 시각이 인덱스가 들고 있는 범위 안인지. 아니면 호출자가 DB로 조회해야 한다.
+     */
+    public boolean covers(LocalDateTime start) {
+        return start == null || !start.isBefore(floor());
+    }
+
+    public List<CrewSummaryProjection> search(BoundingBox box, PreferredLevel level,
+                                              LocalDateTime start, LocalDateTime endExclusive) {
+        Grid current = grid;
+        if (current == null) {
+            current = loadIfAbsent();
+        }
+
+        LocalDateTime floor = floor();
+        LocalDateTime from = start == null || start.isBefore(floor) ? floor : start;
+        List<CrewSummaryProjection> result = new ArrayList<>();
+        for (Map<Long, CrewSummaryProjection> cell : current.cellsCovering(box)) {
+            for (CrewSummaryProjection crew : cell.values()) {
+                if (box.contains(crew.latitude(), crew.longitude())
+                        && matches(crew, level, from, endExclusive)) {
+                    result.add(crew);
+                }
+            }
+        }
+        return result;
+    }
+
+    public void upsert(RunningCrew crew, long currentParticipants) {
+        if (!isEnabled()) {
+            return;
+        }
+        CrewSummaryProjection summary = summary(crew, currentParticipants);
+        applyAfterCommit(g -> g.put(summary));
+    }
+
+    /**
+     * 모임 정보 수정을 반영한다. 참여 인원은 이 트랜잭션이 읽은 값 대신 인덱스에 있는 값을 유지해
+     * 그 사이 커밋된 가입/탈퇴의 변화량을 덮어쓰지 않는다 (인덱스에 없을 때만 읽은 값을 쓴다).
+     */
+    public void update(RunningCrew crew) {
+        if (!isEnabled()) {
+            return;
+        }
+        CrewSummaryProjection summary = summary(crew, crew.getCurrentParticipants());
+        applyAfterCommit(g -> g.putKeepingParticipants(summary));
+    }
+
+    /**
+     * 일괄 등록으로 새로 INSERT된 모임들을 커밋 후 한 번에 넣는다.
+     */
+    public void insertAll(List<CrewSummaryProjection> crews) {
+        if (!isEnabled() || crews.isEmpty()) {
+            return;
+        }
+        applyAfterCommit(g -> crews.forEach(g::put));
+    }
+
+    /**
+     * 참여 인원을 증감한다. 동시 가입/탈퇴가 겹쳐도 서로의 변경을 덮어쓰지 않도록
+     * 절댓값 대신 변화량으로 반영한다.
+     */
+    public void adjustParticipants(Long crewId, int delta) {
+        if (!isEnabled()) {
+            return;
+        }
+        applyAfterCommit(g -> g.adjustParticipants(crewId, delta));
+    }
+
+    public void remove(Long crewId) {
+        if (!isEnabled()) {
+            return;
+        }
+        applyAfterCommit(g -> g.remove(crewId));
+    }
+
+    /**
+     * 다가올 모임을 DB에서 다시 읽어 인덱스를 교체한다. 그 사이 지난 모임은 이때 빠진다.
+     * 적재 중에 들어온 변경은 새 인덱스에 재적용한 뒤 교체하므로 유실되지 않는다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            load();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${sole.crew.nearby.index-rebuild-interval:PT10M}",
+            initialDelayString = "${sole.crew.nearby.index-rebuild-interval:PT10M}"
+    )
+    public void scheduledRebuild() {
+        // 아직 한 번도 조회되지 않았다면 콜드 스타트 시점에 적재한다
+        if (isEnabled() && grid != null) {
+            rebuild();
+        }
+    }
+
+    private Grid loadIfAbsent() {
+        rebuildLock.lock();
+        try {
+            Grid current = grid;
+            return current != null ? current : load();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Grid load() {
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Grid fresh = new Grid();
+        try {
+            runningCrewRepository.findUpcomingSummaries(floor()).forEach(fresh::put);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            pendingDuringRebuild.forEach(mutation -> mutation.accept(fresh));
+            pendingDuringRebuild = null;
+            grid = fresh;
+        }
+        log.info("crew spatial index rebuilt crews={} cells={}", fresh.crews.size(), fresh.cells.size());
+        return fresh;
+    }
+
+    // 트랜잭션 밖(테스트, 트랜잭션 없는 호출)에서는 바로 반영한다
+    private void applyAfterCommit(Consumer<Grid> mutation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(mutation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(mutation);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<Grid> mutation) {
+        Grid current = grid;
+        if (current != null) {
+            mutation.accept(current);
+        }
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(mutation);
+        }
+    }
+
+    private LocalDateTime floor() {
+        return LocalDateTime.now().minus(gracePeriod);
+    }
+
+    private static CrewSummaryProjection summary(RunningCrew crew, long currentParticipants) {
+        return new CrewSummaryProjection(
+                crew.getId(),
+                crew.getTitle(),
+                crew.getRegion().getId(),
+                crew.getRegion().getCity(),
+                crew.getRegion().getDistrict(),
+                crew.getMeetingTime(),
+                crew.getPlace(),
+                crew.getLatitude(),
+                crew.getLongitude(),
+                crew.getMaxParticipants(),
+                currentParticipants,
+                crew.getLevel()
+        );
+    }
+
+    private boolean matches(CrewSummaryProjection crew, PreferredLevel level,
+                            LocalDateTime start, LocalDateTime endExclusive) {
+        if (level != null && crew.level() != level) {
+            return false;
+        }
+        if (start != null && crew.meetingTime().isBefore(start)) {
+            return false;
+        }
+        return endExclusive == null || crew.meetingTime().isBefore(endExclusive);
+    }
+
+    /**
+     * 셀 ID → (모임 ID → 요약) 구조의 격자.
+     * 읽기는 락 없이 동시에 수행되고, 쓰기는 CrewSpatialIndex 모니터 안에서만 일어난다.
+     */
+    static final class Grid {
+
+        private final Map<Long, CrewSummaryProjection> crews = new ConcurrentHashMap<>();
+        private final Map<Long, Map<Long, CrewSummaryProjection>> cells = new ConcurrentHashMap<>();
+
+        void put(CrewSummaryProjection crew) {
+            CrewSummaryProjection old = crews.put(crew.id(), crew);
+            if (old != null) {
+                removeFromCell(old);
+            }
+            cells.computeIfAbsent(GeoCell.of(crew.latitude(), crew.longitude()),
+                    key -> new ConcurrentHashMap<>()).put(crew.id(), crew);
+        }
+
+        void putKeepingParticipants(CrewSummaryProjection crew) {
+            CrewSummaryProjection old = crews.get(crew.id());
+            put(old == null ? crew : withParticipants(crew, old.currentParticipants()));
+        }
+
+        void remove(Long crewId) {
+            CrewSummaryProjection old = crews.remove(crewId);
+            if (old != null) {
+                removeFromCell(old);
+            }
+        }
+
+        void adjustParticipants(Long crewId, int delta) {
+            CrewSummaryProjection old = crews.get(crewId);
+            if (old == null) {
+                return;
+            }
+            put(withParticipants(old, Math.max(0, old.currentParticipants() + delta)));
+        }
+
+        private static CrewSummaryProjection withParticipants(CrewSummaryProjection crew, long currentParticipants) {
+            return new CrewSummaryProjection(
+                    crew.id(),
+                    crew.title(),
+                    crew.regionId(),
+                    crew.regionCity(),
+                    crew.regionDistrict(),
+                    crew.meetingTime(),
+                    crew.place(),
+                    crew.latitude(),
+                    crew.longitude(),
+                    crew.maxParticipants(),
+                    currentParticipants,
+                    crew.level()
+            );
+        }
+
+        List<Map<Long, CrewSummaryProjection>> cellsCovering(BoundingBox box) {
+            int minRow = GeoCell.row(box.minLat());
+            int maxRow = GeoCell.row(box.maxLat());
+            int minColumn = GeoCell.column(box.minLng());
+            int maxColumn = GeoCell.column(box.maxLng());
+
+            // 반경이 매우 넓으면 셀 ID를 일일이 조회하기보다 채워진 셀만 훑는 편이 싸다
+            long coveredCells = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+            if (coveredCells > cells.size()) {
+                return new ArrayList<>(cells.values());
+            }
+
+            List<Map<Long, CrewSummaryProjection>> result = new ArrayList<>();
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    Map<Long, CrewSummaryProjection> cell = cells.get(GeoCell.id(row, column));
+                    if (cell != null) {
+                        result.add(cell);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private void removeFromCell(CrewSummaryProjection crew) {
+            cells.computeIfPresent(GeoCell.of(crew.latitude(), crew.longitude()), (key, cell) -> {
+                cell.remove(crew.id());
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+    }
+}
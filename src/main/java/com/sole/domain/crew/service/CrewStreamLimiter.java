@@ -0,0 +1,30 @@
+package com.sole.domain.crew.service;
+
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import java.util.concurrent.Semaphore;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시에 열 수 있는 모임 스트림 수를 제한한다. 트랜잭션(커넥션)을 열기 전에 허가를 받아야 하고,
+ * 남은 허가가 없으면 기다리지 않고 SERVER_BUSY로 거절한다.
+ */
+@Component
+public class CrewStreamLimiter {
+
+    private final Semaphore permits;
+
+    public CrewStreamLimiter(CrewStreamProperties properties) {
+        this.permits = new Semaphore(properties.maxConcurrent());
+    }
+
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sole.domain.crew.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * NDJSON 모임 스트림 제한 (sole.crew.stream.*).
+ * 스트림 하나가 응답을 다 보낼 때까지 커넥션을 쥐고 있으므로 건수(maxRows), 시간(maxDuration),
+ * 동시 스트림 수(maxConcurrent)를 따로 묶어 느린 클라이언트 몇 명이 커넥션 풀을 비우지 못하게 한다.
+ * maxConcurrent는 커넥션 풀 크기보다 충분히 작게 둔다.
+ */
+@ConfigurationProperties(prefix = "sole.crew.stream")
+public record CrewStreamProperties(
+        @DefaultValue("10000") int maxRows,
+        @DefaultValue("PT30S") Duration maxDuration,
+        @DefaultValue("2") int maxConcurrent
+) {
+}
@@ -0,0 +1,233 @@
+package com.sole.domain.crew.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.sole.domain.crew.dto.NearbyCrewRequest;
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.crew.service.NearbySearchProperties.Backend;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.util.DistanceCalculator;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주변 검색 후보 캐시 (DATABASE 백엔드 전용).
+ * 역/공원 같은 핫스팟에서는 좌표와 반경이 거의 같으므로 (좌표, 반경, 레벨, 시간대)를 양자화한 키로
+ * "이 키에 속하는 어떤 요청이든 덮는" 넉넉한 후보 집합을 캐시하고, 요청마다 정확한 기간/거리 필터와 정렬만 다시 한다.
+ * 모임이 바뀌면 그 위치의 무효화 셀(0.1°)에 걸친 키만 비운다.
+ * 키는 덮는 범위의 모든 셀에 등록되므로, 범위가 MAX_REGISTERED_CELLS를 넘는 요청(고위도의 넓은 반경 등)은 캐시하지 않는다.
+ */
+@Component
+public class NearbyCandidateCache {
+
+    private static final double INVALIDATION_CELL_DEGREES = 0.1;
+    private static final int INVALIDATION_COLUMNS = 3_601;
+    // 반경 50km(요청 상한) 범위가 중위도에서 약 130셀이다
+    static final long MAX_REGISTERED_CELLS = 256;
+
+    private final NearbySearchMode nearbySearchMode;
+    private final NearbySearchProperties.ResultCache properties;
+    private final Cache<Key, Entry> entries;
+    private final Map<Long, Set<Key>> keysByCell = new ConcurrentHashMap<>();
+
+    public NearbyCandidateCache(NearbySearchProperties properties, NearbySearchMode nearbySearchMode) {
+        this.nearbySearchMode = nearbySearchMode;
+        this.properties = properties.resultCache();
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(this.properties.ttl())
+                .maximumSize(this.properties.maximumSize())
+                // 만료/용량 축출은 해당 키의 원자적 연산 안에서 호출되므로 같은 키의 재적재와 엇갈리지 않는다
+                .evictionListener((Key key, Entry entry, RemovalCause cause) -> {
+                    if (key != null && entry != null) {
+                        unregister(key, entry.box());
+                    }
+                })
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled() && nearbySearchMode.backend() == Backend.DATABASE;
+    }
+
+    /**
+     * 요청이 속한 양자화 키의 후보를 돌려준다. 없으면 loader로 키 전체를 덮는 범위를 읽어 캐시한다.
+     * 돌려주는 후보는 요청의 정확한 기간으로 걸러져 있고, 거리 필터/정렬은 호출한 쪽이 한다.
+     */
+    public List<CrewSummaryProjection> candidates(NearbyCrewRequest request, CandidateLoader loader) {
+        Key key = keyOf(request);
+        BoundingBox coveringBox = coveringBox(key);
+        if (cellCount(coveringBox) > MAX_REGISTERED_CELLS) {
+            return withinPeriod(request, loader.load(coveringBox, key.level(), key.start(), key.end()));
+        }
+        Entry entry = entries.get(key, k -> {
+            register(k, coveringBox);
+            try {
+                return new Entry(coveringBox, loader.load(coveringBox, k.level(), k.start(), k.end()));
+            } catch (RuntimeException e) {
+                unregister(k, coveringBox);
+                throw e;
+            }
+        });
+        return withinPeriod(request, entry.candidates());
+    }
+
+    /**
+     * 해당 위치를 덮는 키만 비운다. 트랜잭션 안이면 완료 직후 한 번 더 비워
+     * 커밋 전에 옛 상태로 다시 채워진 항목도 정리한다.
+     */
+    public void invalidate(double latitude, double longitude) {
+        if (!isEnabled()) {
+            return;
+        }
+        long cell = invalidationCell(latitude, longitude);
+        evictCell(cell);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictCell(cell);
+                }
+            });
+        }
+    }
+
+    /**
+     * 일괄 등록처럼 여러 위치가 한꺼번에 바뀐 경우 모든 키를 비운다. 트랜잭션 안이면 완료 직후 한 번 더 비운다.
+     */
+    public void invalidateAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        evictAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictAll();
+                }
+            });
+        }
+    }
+
+    Key keyOf(NearbyCrewRequest request) {
+        double step = properties.coordinateStepDegrees();
+        return new Key(
+                (int) Math.floor(request.latitude() / step),
+                (int) Math.floor(request.longitude() / step),
+                (int) Math.ceil(request.radiusKm() / properties.radiusStepKm()),
+                request.level(),
+                request.startDateTime() == null ? null : request.startDateTime().truncatedTo(ChronoUnit.HOURS),
+                request.endDateTimeExclusive() == null ? null : ceilToHour(request.endDateTimeExclusive())
+        );
+    }
+
+    // 격자 칸 중심에서 (올림한 반경 + 칸 중심~모서리 거리)만큼 덮으면 칸 안 어느 좌표의 요청이든 포함된다
+    private BoundingBox coveringBox(Key key) {
+        double step = properties.coordinateStepDegrees();
+        double centerLat = (key.latBucket() + 0.5) * step;
+        double centerLng = (key.lngBucket() + 0.5) * step;
+        double halfDiagonalKm = Math.toRadians(step / 2) * DistanceCalculator.earthRadiusKm() * Math.sqrt(2);
+        return CrewService.calculateBoundingBox(
+                centerLat, centerLng, key.radiusSteps() * properties.radiusStepKm() + halfDiagonalKm);
+    }
+
+    private void register(Key key, BoundingBox box) {
+        forEachCell(box, cell -> keysByCell.computeIfAbsent(cell, c -> ConcurrentHashMap.newKeySet()).add(key));
+    }
+
+    private void unregister(Key key, BoundingBox box) {
+        forEachCell(box, cell -> keysByCell.computeIfPresent(cell, (c, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+
+    private void evictCell(long cell) {
+        Set<Key> keys = keysByCell.get(cell);
+        if (keys == null) {
+            return;
+        }
+        for (Key key : Set.copyOf(keys)) {
+            entries.asMap().computeIfPresent(key, (k, entry) -> {
+                unregister(k, entry.box());
+                return null;
+            });
+        }
+    }
+
+    private void evictAll() {
+        for (Key key : Set.copyOf(entries.asMap().keySet())) {
+            entries.asMap().computeIfPresent(key, (k, entry) -> {
+                unregister(k, entry.box());
+                return null;
+            });
+        }
+    }
+
+    private static List<CrewSummaryProjection> withinPeriod(NearbyCrewRequest request,
+                                                            List<CrewSummaryProjection> candidates) {
+        LocalDateTime start = request.startDateTime();
+        LocalDateTime end = request.endDateTimeExclusive();
+        return candidates.stream()
+                .filter(crew -> start == null || !crew.meetingTime().isBefore(start))
+                .filter(crew -> end == null || crew.meetingTime().isBefore(end))
+                .toList();
+    }
+
+    static long cellCount(BoundingBox box) {
+        long rows = invalidationRow(box.maxLat()) - invalidationRow(box.minLat()) + 1L;
+        long columns = invalidationColumn(box.maxLng()) - invalidationColumn(box.minLng()) + 1L;
+        return rows * columns;
+    }
+
+    private void forEachCell(BoundingBox box, LongConsumer action) {
+        int minRow = invalidationRow(box.minLat());
+        int maxRow = invalidationRow(box.maxLat());
+        int minColumn = invalidationColumn(box.minLng());
+        int maxColumn = invalidationColumn(box.maxLng());
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                action.accept((long) row * INVALIDATION_COLUMNS + column);
+            }
+        }
+    }
+
+    private static long invalidationCell(double latitude, double longitude) {
+        return (long) invalidationRow(latitude) * INVALIDATION_COLUMNS + invalidationColumn(longitude);
+    }
+
+    private static int invalidationRow(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / INVALIDATION_CELL_DEGREES);
+    }
+
+    private static int invalidationColumn(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / INVALIDATION_CELL_DEGREES);
+    }
+
+    private static LocalDateTime ceilToHour(LocalDateTime time) {
+        LocalDateTime floor = time.truncatedTo(ChronoUnit.HOURS);
+        return floor.equals(time) ? floor : floor.plusHours(1);
+    }
+
+    @FunctionalInterface
+    interface CandidateLoader {
+        List<CrewSummaryProjection> load(BoundingBox box, PreferredLevel level,
+                                         LocalDateTime start, LocalDateTime endExclusive);
+    }
+
+    record Key(int latBucket, int lngBucket, int radiusSteps, PreferredLevel level,
+               LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record Entry(BoundingBox box, List<CrewSummaryProjection> candidates) {
+    }
+}
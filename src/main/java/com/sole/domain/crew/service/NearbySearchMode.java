@@ -0,0 +1,62 @@
+package com.sole.domain.crew.service;
+
+import com.sole.domain.crew.service.NearbySearchProperties.Backend;
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정된 주변 검색 백엔드를 실제 DB에 맞춰 확정한다.
+ * SPATIAL은 MySQL 전용이므로 H2 등에서는 DATABASE 경로로 대체한다.
+ */
+@Component
+public class NearbySearchMode {
+
+    private static final Logger log = LoggerFactory.getLogger(NearbySearchMode.class);
+
+    private final Backend backend;
+
+    @Autowired
+    public NearbySearchMode(NearbySearchProperties properties, DataSource dataSource) {
+        this(resolve(properties.backend(), dataSource));
+    }
+
+    NearbySearchMode(Backend backend) {
+        this.backend = backend;
+    }
+
+    public Backend backend() {
+        return backend;
+    }
+
+    public boolean usesIndex() {
+        return backend == Backend.INDEX;
+    }
+
+    public boolean usesSpatial() {
+        return backend == Backend.SPATIAL;
+    }
+
+    private static Backend resolve(Backend configured, DataSource dataSource) {
+        if (configured != Backend.SPATIAL) {
+            return configured;
+        }
+        String product;
+        try {
+            product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("cannot detect database product, nearby backend falls back to DATABASE", e);
+            return Backend.DATABASE;
+        }
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            log.warn("nearby backend SPATIAL requires MySQL (current={}), falling back to DATABASE", product);
+            return Backend.DATABASE;
+        }
+        return Backend.SPATIAL;
+    }
+}
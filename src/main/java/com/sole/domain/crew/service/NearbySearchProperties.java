@@ -0,0 +1,42 @@
+package com.sole.domain.crew.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 주변 모임 검색 설정 (sole.crew.nearby.*).
+ * backend로 후보 조회 방식을 고른다.
+ * - INDEX: 인메모리 격자 인덱스 (콜드 스타트/재빌드 때만 DB 조회). 노드마다 따로 들고 있어 다른 노드의 변경은
+ *   다음 재빌드 전까지 보이지 않으므로 단일 노드 배포에서만 쓴다.
+ *   모임 시각이 지금 - indexGracePeriod 이후인 모임만 싣고, 그보다 이른 시작 시각을 요청하면 DB로 조회한다.
+ * - DATABASE(기본값): GeoCell 구간 조회 후 애플리케이션에서 거리 계산
+ * - SPATIAL: MySQL POINT 컬럼 + SPATIAL 인덱스로 거리 필터/정렬까지 DB에서 수행 (MySQL이 아니면 DATABASE로 대체)
+ * resultCache는 DATABASE 백엔드에서 양자화한 좌표/반경 단위로 후보 목록을 캐시한다.
+ */
+@ConfigurationProperties(prefix = "sole.crew.nearby")
+public record NearbySearchProperties(
+        @DefaultValue("DATABASE") Backend backend,
+        @DefaultValue("PT10M") Duration indexRebuildInterval,
+        @DefaultValue("PT2H") Duration indexGracePeriod,
+        @DefaultValue ResultCache resultCache
+) {
+
+    /**
+     * 좌표는 coordinateStepDegrees 격자로, 반경은 radiusStepKm 단위로 올림해 캐시 키를 만든다.
+     */
+    public record ResultCache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("PT30S") Duration ttl,
+            @DefaultValue("5000") long maximumSize,
+            @DefaultValue("0.005") double coordinateStepDegrees,
+            @DefaultValue("0.5") double radiusStepKm
+    ) {
+    }
+
+    public enum Backend {
+        INDEX,
+        DATABASE,
+        SPATIAL
+    }
+}
@@ -0,0 +1,82 @@
+package com.sole.domain.crew.service;
+
+/**
+ * 반경 안 후보 중 (거리, id) 오름차순 상위 capacity개만 남기는 고정 크기 최대 힙.
+ * 전체를 정렬하지 않으므로 후보 n개에 대해 O(n log k)이고, 원시 배열만 쓴다.
+ */
+final class NearestCrews {
+
+    private final double[] distances;
+    private final long[] ids;
+    private final int[] heap; // 후보 위치, 루트가 지금까지 남긴 것 중 가장 먼 후보
+    private int size;
+
+    NearestCrews(int capacity, double[] distances, long[] ids) {
+        this.distances = distances;
+        this.ids = ids;
+        this.heap = new int[capacity];
+    }
+
+    void offer(int position) {
+        if (size < heap.length) {
+            heap[size] = position;
+            siftUp(size++);
+        } else if (heap.length > 0 && closer(position, heap[0])) {
+            heap[0] = position;
+            siftDown(0, size);
+        }
+    }
+
+    // 힙 정렬로 가까운 순서의 후보 위치를 돌려준다. 이후에는 offer하지 않는다
+    int[] drainSorted() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        int[] sorted = new int[size];
+        System.arraycopy(heap, 0, sorted, 0, size);
+        size = 0;
+        return sorted;
+    }
+
+    private boolean closer(int a, int b) {
+        int byDistance = Double.compare(distances[a], distances[b]);
+        return byDistance < 0 || (byDistance == 0 && ids[a] < ids[b]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!closer(heap[parent], heap[index])) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index, int end) {
+        while (true) {
+            int farthest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < end && closer(heap[farthest], heap[left])) {
+                farthest = left;
+            }
+            if (right < end && closer(heap[farthest], heap[right])) {
+                farthest = right;
+            }
+            if (farthest == index) {
+                return;
+            }
+            swap(index, farthest);
+            index = farthest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
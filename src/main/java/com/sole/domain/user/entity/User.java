@@ -19,6 +19,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
@@ -55,6 +56,12 @@ public class User extends BaseTimeEntity {
     @Column(name = "preferred_level", length = 20)
     private PreferredLevel preferredLevel; // null 허용
 
+    // 토큰 모드 refresh 토큰의 사용자 단위 하한. 전체 로그아웃/비밀번호 변경 때만 오르며,
+    // INSERT 이후 변경은 UserRepository의 원자적 UPDATE 쿼리로만 반영한다.
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false, updatable = false)
+    private int tokenVersion;
+
     @Builder
     private User(String email, String password, String nickname, Region
             region, PreferredLevel preferredLevel) {
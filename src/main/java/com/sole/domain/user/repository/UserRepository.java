@@ -3,6 +3,10 @@ package com.sole.domain.user.repository;
 import com.sole.domain.user.entity.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,4 +17,42 @@ public interface UserRepository extends JpaRepository<User,Long> {
     // /me 조회시 region까지 한번에 로딩
     @EntityGraph(attributePaths = "region")
     Optional<User> findWithRegionById(Long id);
+
+    /**
+     * 해시 계산은 트랜잭션 밖에서 끝내고 저장만 짧은 트랜잭션으로 한다.
+     * 읽은 뒤 다른 요청이 먼저 비밀번호를 바꿨으면(저장된 해시가 currentPassword와 다르면) 0을 돌려준다.
+     * 비밀번호가 바뀌면 tokenVersion도 올려 그 전에 발급된 refresh 토큰을 모두 무효로 만든다.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update User u set u.password = :newPassword, u.tokenVersion = u.tokenVersion + 1,
+                u.updatedAt = CURRENT_TIMESTAMP
+            where u.id = :id and u.password = :currentPassword
+            """)
+    int changePassword(@Param("id") Long id,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
+
+    /**
+     * 로그인 시 cost 재계산용. 평문 비밀번호는 그대로이므로 tokenVersion은 건드리지 않는다.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update User u set u.password = :newPassword, u.updatedAt = CURRENT_TIMESTAMP
+            where u.id = :id and u.password = :currentPassword
+            """)
+    int rehashPassword(@Param("id") Long id,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    // 전체 로그아웃: 지금까지 발급된 모든 기기의 refresh 토큰을 무효로 만든다
+    @Modifying
+    @Transactional
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.id = :id")
+    int increaseTokenVersion(@Param("id") Long id);
 }
@@ -4,13 +4,14 @@ import com.sole.domain.user.entity.User;
 import com.sole.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -20,4 +21,17 @@ public class CustomUserDetailsService implements UserDetailsService {
             .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
         return UserPrincipal.from(user);
     }
+
+    /**
+     * 로그인 중 DaoAuthenticationProvider가 cost가 낮은 해시를 발견하면 새로 계산한 해시를 넘겨준다.
+     * 해시는 이미 트랜잭션 밖에서 계산됐고, 여기서는 UPDATE 한 문장만 자체 트랜잭션으로 실행한다.
+     * 그 사이 비밀번호가 바뀌었으면(0건) 새 비밀번호를 덮어쓰지 않는다.
+     * 돌려준 principal은 인증 결과로만 쓰이고 비밀번호는 곧 지워지므로 그대로 돌려준다.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        UserPrincipal principal = (UserPrincipal) userDetails;
+        userRepository.rehashPassword(principal.getId(), principal.getPassword(), newPassword);
+        return userDetails;
+    }
 }
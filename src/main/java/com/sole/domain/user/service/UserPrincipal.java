@@ -1,31 +1,61 @@
 package com.sole.domain.user.service;
 
 import com.sole.domain.user.entity.User;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.Serial;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-// 도메인 User를 Spring Security UserDetails로 감싸는 어댑터
-public class UserPrincipal implements UserDetails {
+/**
+ * 도메인 User를 Spring Security UserDetails로 옮긴 세션용 principal.
+ * 엔티티를 들고 있지 않고 식별에 필요한 값(id, 이메일, 닉네임, 권한)만 복사해 둔다.
+ * 비밀번호 해시는 인증 검증에만 쓰이고 인증 직후 eraseCredentials로 지워지며 직렬화되지 않는다.
+ * 직렬화는 SerializedForm으로 대체해 클래스 기술자 대신 값만 기록한다.
+ */
+public final class UserPrincipal implements UserDetails, CredentialsContainer {
 
-    private final User user;
-    private final List<GrantedAuthority> authorities;
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final Long id;
+    private final String email;
     private final String nickname;
+    private final List<GrantedAuthority> authorities;
+    private transient String password;
 
-    private UserPrincipal(User user) {
-        this.user = user;
-        this.nickname = user.getNickname();
-        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private UserPrincipal(Long id, String email, String nickname,
+                          List<GrantedAuthority> authorities, String password) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname;
+        this.authorities = authorities;
+        this.password = password;
     }
 
     public static UserPrincipal from(User user) {
-        return new UserPrincipal(user);
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getNickname(),
+                DEFAULT_AUTHORITIES, user.getPassword());
+    }
+
+    // 서명 토큰처럼 이미 검증된 식별 정보로 만들 때 사용 (비밀번호 없음)
+    public static UserPrincipal of(Long id, String email, String nickname) {
+        return new UserPrincipal(id, email, nickname, DEFAULT_AUTHORITIES, null);
     }
 
     public Long getId() {
-        return user.getId();
+        return id;
     }
 
     public String getNickname() {
@@ -39,32 +69,93 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
         // 로그인 식별자로 이메일 사용
-        return user.getEmail();
+        return email;
     }
 
     @Override
-    public boolean isAccountNonExpired() {
-        return true;
+    public void eraseCredentials() {
+        password = null;
     }
 
     @Override
-    public boolean isAccountNonLocked() {
-        return true;
+    public boolean equals(Object o) {
+        return o instanceof UserPrincipal other && Objects.equals(id, other.id);
     }
 
     @Override
-    public boolean isCredentialsNonExpired() {
-        return true;
+    public int hashCode() {
+        return Objects.hashCode(id);
     }
 
-    @Override
-    public boolean isEnabled() {
-        return true;
+    @Serial
+    private Object writeReplace() {
+        return new SerializedForm(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm을 통해서만 역직렬화할 수 있습니다.");
+    }
+
+    /**
+     * 세션 저장소용 직렬화 형식: id, 이메일, 닉네임, 권한 문자열만 순서대로 기록한다.
+     * 기본 권한이면 목록을 생략한다(개수 -1).
+     */
+    private static final class SerializedForm implements Externalizable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private UserPrincipal principal;
+
+        public SerializedForm() {
+        }
+
+        private SerializedForm(UserPrincipal principal) {
+            this.principal = principal;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeLong(principal.id);
+            out.writeUTF(principal.email);
+            out.writeUTF(principal.nickname);
+            if (principal.authorities.equals(DEFAULT_AUTHORITIES)) {
+                out.writeInt(-1);
+                return;
+            }
+            out.writeInt(principal.authorities.size());
+            for (GrantedAuthority authority : principal.authorities) {
+                out.writeUTF(authority.getAuthority());
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            long id = in.readLong();
+            String email = in.readUTF();
+            String nickname = in.readUTF();
+            int count = in.readInt();
+            List<GrantedAuthority> authorities = DEFAULT_AUTHORITIES;
+            if (count >= 0) {
+                GrantedAuthority[] read = new GrantedAuthority[count];
+                for (int i = 0; i < count; i++) {
+                    read[i] = new SimpleGrantedAuthority(in.readUTF());
+                }
+                authorities = List.of(read);
+            }
+            principal = new UserPrincipal(id, email, nickname, authorities, null);
+        }
+
+        @Serial
+        private Object readResolve() {
+            return principal;
+        }
     }
 }
@@ -44,7 +44,7 @@ public class UserService {
         return UserProfileResponse.from(user);
     }
 
-    @Transactional
+    // 해시 두 번(검증, 새 해시)은 트랜잭션 밖에서 하고, 저장은 읽은 해시가 그대로일 때만 UPDATE 한 문장으로 한다
     public void changePassword(Long userId, ChangePasswordRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -55,8 +55,10 @@ public class UserService {
             throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
         }
 
-        // 새 비밀번호를 BCrypt로 암호화 후 변경
+        // 새 비밀번호를 BCrypt로 암호화 후 변경 (그 사이 다른 요청이 먼저 바꿨으면 현재 비밀번호 불일치로 본다)
         String encoded = passwordEncoder.encode(request.newPassword());
-        user.changePassword(encoded);
+        if (userRepository.changePassword(userId, user.getPassword(), encoded) == 0) {
+            throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
+        }
     }
 }
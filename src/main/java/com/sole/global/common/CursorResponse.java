@@ -0,0 +1,18 @@
+package com.sole.global.common;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 목록 응답. 전체 건수를 세지 않고 다음 페이지 커서만 돌려준다.
+ * nextCursor는 불투명 문자열이므로 클라이언트는 그대로 다음 요청에 넘긴다.
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorResponse<>(content, size, nextCursor, nextCursor != null);
+    }
+}
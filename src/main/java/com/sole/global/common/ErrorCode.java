@@ -7,6 +7,7 @@ public enum ErrorCode {
 
     // 4xx
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "INVALID_INPUT_VALUE", "입력값이 올바르지 않습니다."),
+    RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND", "요청한 경로를 찾을 수 없습니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "사용자를 찾을 수 없습니다."),
     REGION_NOT_FOUND(HttpStatus.NOT_FOUND, "REGION_NOT_FOUND", "존재하지 않는 지역입니다."),
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "AUTHENTICATION_FAILED", "인증에 실패했습니다."),
@@ -17,9 +18,13 @@ public enum ErrorCode {
     CREW_MEMBER_ALREADY_JOINED(HttpStatus.BAD_REQUEST, "CREW_MEMBER_ALREADY_JOINED", "이미 참여한 모임입니다."),
     CREW_MEMBER_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "CREW_MEMBER_LIMIT_EXCEEDED", "모임 최대 인원을 초과했습니다."),
     CREW_MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "CREW_MEMBER_NOT_FOUND", "참여하지 않은 모임입니다."),
+    CREW_IMPORT_TOO_LARGE(HttpStatus.CONTENT_TOO_LARGE, "CREW_IMPORT_TOO_LARGE", "한 번에 등록할 수 있는 모임 수를 초과했습니다."),
+    CREW_STREAM_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "CREW_STREAM_LIMIT_EXCEEDED", "한 번에 내려받을 수 있는 모임 수를 초과했습니다. 조건을 좁혀 주세요."),
 
     // 5xx
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 오류가 발생했습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SERVER_BUSY", "요청이 많아 잠시 후 다시 시도해 주세요."),
+    CREW_STREAM_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "CREW_STREAM_TIMEOUT", "내려받기 시간이 초과되었습니다. 조건을 좁혀 주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -0,0 +1,98 @@
+package com.sole.global.common;
+
+import com.sole.global.exception.BusinessException;
+import com.sole.global.exception.ErrorResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * application/x-ndjson 응답 작성기. 값 하나를 한 줄의 JSON으로 쓰고 바로 내보내므로
+ * 목록 전체를 메모리에 모으지 않는다.
+ * <p>
+ * 첫 줄을 쓰기 전에 실패하면 예외를 그대로 던져 GlobalExceptionHandler의 오류 응답이 나가고,
+ * 이미 줄을 쓴 뒤(상태 코드 확정 후) 실패하면 마지막 줄에 ErrorResponse를 남겨 클라이언트가 잘린 응답을 구분하게 한다.
+ * BusinessException이면 그 오류 코드를, 그 밖의 예외는 INTERNAL_SERVER_ERROR를 남긴다.
+ */
+public final class NdjsonWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonWriter.class);
+    private static final int NEWLINE = '\n';
+
+    private final JsonMapper jsonMapper;
+    private final HttpServletResponse response;
+    private OutputStream out; // 첫 줄을 쓸 때 연다
+
+    private NdjsonWriter(JsonMapper jsonMapper, HttpServletResponse response) {
+        this.jsonMapper = jsonMapper;
+        this.response = response;
+    }
+
+    /**
+     * producer에 한 줄씩 쓰는 sink를 넘긴다. producer가 돌아오면 남은 버퍼를 내보낸다.
+     */
+    public static <T> void write(JsonMapper jsonMapper, HttpServletResponse response,
+                                 Consumer<Consumer<T>> producer) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        NdjsonWriter<T> writer = new NdjsonWriter<>(jsonMapper, response);
+        try {
+            producer.accept(writer::line);
+        } catch (RuntimeException e) {
+            if (writer.out == null) {
+                throw e;
+            }
+            ErrorCode errorCode;
+            if (e instanceof BusinessException businessException) {
+                errorCode = businessException.getErrorCode();
+                log.warn("ndjson stream aborted after first line: {}", errorCode);
+            } else {
+                errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
+                log.warn("ndjson stream aborted after first line", e);
+            }
+            writer.trailingError(errorCode);
+            return;
+        }
+        writer.open().flush();
+    }
+
+    private void line(T value) {
+        try {
+            boolean first = out == null;
+            OutputStream stream = open();
+            stream.write(jsonMapper.writeValueAsBytes(value));
+            stream.write(NEWLINE);
+            if (first) {
+                stream.flush(); // 첫 줄은 버퍼가 찰 때까지 기다리지 않고 바로 보낸다
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void trailingError(ErrorCode errorCode) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(ErrorResponse.of(errorCode)));
+            out.write(NEWLINE);
+            out.flush();
+        } catch (IOException e) {
+            // 클라이언트가 끊겼다면 더 알릴 방법이 없다
+            log.debug("ndjson trailing error not delivered", e);
+        }
+    }
+
+    private OutputStream open() throws IOException {
+        if (out == null) {
+            out = response.getOutputStream();
+        }
+        return out;
+    }
+}
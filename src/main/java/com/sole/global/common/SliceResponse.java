@@ -0,0 +1,23 @@
+package com.sole.global.common;
+
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 전체 건수 없이 다음 페이지 존재 여부만 알려주는 목록 응답.
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext
+) {
+    public static <T> SliceResponse<T> from(Slice<T> slice) {
+        return new SliceResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext()
+        );
+    }
+}
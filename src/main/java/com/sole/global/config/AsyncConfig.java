@@ -0,0 +1,20 @@
+package com.sole.global.config;
+
+import com.sole.global.jdbc.DataSourceThrottlePostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * spring.threads.virtual.enabled=true면 Tomcat 요청 처리, @Async(applicationTaskExecutor),
+ * MVC 비동기 응답이 모두 가상 스레드에서 돈다. 이때 커넥션 풀 앞에 세마포어를 둔다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    static DataSourceThrottlePostProcessor dataSourceThrottlePostProcessor() {
+        return new DataSourceThrottlePostProcessor();
+    }
+}
@@ -1,6 +1,8 @@
 package com.sole.global.config;
 
+import com.sole.global.jdbc.StatementCountingPostProcessor;
 import com.sole.global.logging.RequestLoggingFilter;
+import com.sole.global.logging.RequestLoggingProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,11 +11,17 @@ import org.springframework.context.annotation.Configuration;
 public class LoggingConfig {
 
     @Bean
-    public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter() {
+    public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter(RequestLoggingProperties properties) {
         FilterRegistrationBean<RequestLoggingFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new RequestLoggingFilter());
+        registrationBean.setFilter(new RequestLoggingFilter(properties));
         registrationBean.setOrder(1); // SecurityFilterChain 앞뒤 영향 최소화, 필요시 조정
         registrationBean.addUrlPatterns("/*");
         return registrationBean;
     }
+
+    // 요청 로그의 sqlCount/sqlRows/sqlMs 집계용 DataSource 래퍼
+    @Bean
+    static StatementCountingPostProcessor statementCountingPostProcessor() {
+        return new StatementCountingPostProcessor();
+    }
 }
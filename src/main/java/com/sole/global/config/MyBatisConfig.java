@@ -0,0 +1,25 @@
+package com.sole.global.config;
+
+import java.util.Properties;
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 매퍼 XML에서 databaseId로 DB별 문장을 고를 수 있게 한다 (MySQL → mysql, H2 → h2).
+ * databaseId가 없는 문장은 모든 DB에서 쓰이고, 같은 id에 일치하는 databaseId 문장이 있으면 그쪽이 우선한다.
+ */
+@Configuration
+public class MyBatisConfig {
+
+    @Bean
+    DatabaseIdProvider databaseIdProvider() {
+        Properties vendors = new Properties();
+        vendors.setProperty("MySQL", "mysql");
+        vendors.setProperty("H2", "h2");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(vendors);
+        return provider;
+    }
+}
@@ -1,8 +1,12 @@
 package com.sole.global.config;
 
 import com.sole.domain.user.service.CustomUserDetailsService;
+import com.sole.global.security.BearerTokenAuthenticationFilter;
+import com.sole.global.security.BoundedPasswordEncoder;
+import com.sole.global.security.PasswordHashingProperties;
 import com.sole.global.security.RestAccessDeniedHandler;
 import com.sole.global.security.RestAuthenticationEntryPoint;
+import com.sole.global.security.TokenService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,6 +19,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -23,15 +28,21 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
     private final RestAccessDeniedHandler restAccessDeniedHandler;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final TokenService tokenService;
 
     public SecurityConfig(
         CustomUserDetailsService userDetailsService,
         RestAuthenticationEntryPoint restAuthenticationEntryPoint,
-        RestAccessDeniedHandler restAccessDeniedHandler
+        RestAccessDeniedHandler restAccessDeniedHandler,
+        PasswordHashingProperties passwordHashingProperties,
+        TokenService tokenService
     ) {
         this.userDetailsService = userDetailsService;
         this.restAuthenticationEntryPoint = restAuthenticationEntryPoint;
         this.restAccessDeniedHandler = restAccessDeniedHandler;
+        this.passwordHashingProperties = passwordHashingProperties;
+        this.tokenService = tokenService;
     }
 
     @Bean
@@ -39,39 +50,52 @@ public class SecurityConfig {
         http
             // API 환경이라 CSRF 토큰을 별도 처리하지 않을 경우 우선 비활성화
             .csrf(AbstractHttpConfigurer::disable)
-            // 세션을 사용해서 인증 상태를 유지
-            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+            // 세션 모드는 세션으로 인증 상태를 유지하고, 토큰 모드는 세션을 만들지 않는다
+            .sessionManagement(session -> session.sessionCreationPolicy(
+                tokenService.isEnabled() ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED))
             // 기본 로그인 폼/HTTP Basic은 사용하지 않음 (직접 API로 로그인 구현 예정)
             .formLogin(AbstractHttpConfigurer::disable)
             .httpBasic(AbstractHttpConfigurer::disable)
             // 요청별 접근 제어
-            .authorizeHttpRequests(auth -> auth
-                .requestMatchers(
+            .authorizeHttpRequests(auth -> {
+                auth.requestMatchers(
+                    // actuator는 management.server.port(내부 포트)에서만 열린다. 서비스 포트에는 프로브만 있다
                     "/actuator/health",
+                    "/actuator/prometheus",
+                    "/livez",
+                    "/readyz",
                     "/error",
                     "/api/docs/**",
                     "/h2-console/**",
                     "/api/v1/auth/login",
                     "/api/v1/auth/signup",
+                    // 로그아웃은 세션/토큰이 이미 만료됐어도 성공으로 응답한다
+                    "/api/v1/auth/logout",
                     "/api/v1/crews/nearby"
-                ).permitAll()
-                .anyRequest().authenticated()
-            )
+                ).permitAll();
+                // refresh 토큰 교환은 토큰 모드에서만 연다
+                if (tokenService.isEnabled()) {
+                    auth.requestMatchers("/api/v1/auth/refresh").permitAll();
+                }
+                auth.anyRequest().authenticated();
+            })
             // 인증/인가 예외를 JSON으로 통일
             .exceptionHandling(ex -> ex
                 .authenticationEntryPoint(restAuthenticationEntryPoint)
                 .accessDeniedHandler(restAccessDeniedHandler)
             )
-            // 로그아웃 엔드포인트 설정 (POST /api/v1/auth/logout)
-            .logout(logout -> logout
-                .logoutUrl("/api/v1/auth/logout")
-                .deleteCookies("JSESSIONID")
-                .invalidateHttpSession(true)
-                .clearAuthentication(true)
-            )
+            // 로그아웃(POST /api/v1/auth/logout)은 AuthController가 처리한다.
+            // LogoutFilter는 컨트롤러보다 먼저 응답(302)해 토큰 모드의 refresh 토큰 무효화가 실행되지 않으므로 끈다
+            .logout(AbstractHttpConfigurer::disable)
             // DAO 기반 인증 프로바이더 등록
             .authenticationProvider(daoAuthenticationProvider());
 
+        // 토큰 모드: 요청마다 Authorization 헤더의 access 토큰으로 인증
+        if (tokenService.isEnabled()) {
+            http.addFilterBefore(new BearerTokenAuthenticationFilter(tokenService),
+                UsernamePasswordAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 
@@ -80,13 +104,21 @@ public class SecurityConfig {
         // 생성자에 UserDetailsService 전달
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        // 로그인 성공 시 저장된 해시의 cost가 설정보다 낮으면 새 cost로 다시 저장
+        provider.setUserDetailsPasswordService(userDetailsService);
         provider.setHideUserNotFoundExceptions(false);
         return provider;
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // 해시는 요청 스레드가 아닌 전용 풀에서 계산한다 (종료 시 close로 풀 정리)
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(passwordHashingProperties.strength()),
+            passwordHashingProperties.threadsOrDefault(),
+            passwordHashingProperties.queueCapacity(),
+            passwordHashingProperties.waitTimeout()
+        );
     }
 
     @Bean
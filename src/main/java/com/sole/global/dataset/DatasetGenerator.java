@@ -0,0 +1,300 @@
+package com.sole.global.dataset;
+
+import com.sole.domain.crew.entity.CrewRole;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.dataset.DatasetSink.CrewRow;
+import com.sole.global.dataset.DatasetSink.MemberRow;
+import com.sole.global.dataset.DatasetSink.RegionRow;
+import com.sole.global.dataset.DatasetSink.UserRow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 결정적 합성 데이터 생성기.
+ * 사용자/모임은 seed에서 split한 서로 다른 난수 스트림을 쓰므로, 모임 수를 바꿔도 사용자 데이터는 그대로다.
+ * <p>
+ * 공간 분포: 실제 시/구 중심점(인구 비례 가중치)을 골라 그 주변에 가우시안으로 흩뿌린다.
+ * 55%는 반경 1km 안팎의 도심 코어, 35%는 3.5km 시가지, 10%는 12km 교외로 퍼져 도심은 빽빽하고 외곽은 듬성하다.
+ * 멤버십: 참여자 수와 참여 사용자 모두 Zipf를 따른다. Zipf 순위는 곱셈 치환으로 사용자 ID에 섞어
+ * 헤비 유저가 낮은 ID에 몰리지 않게 한다. current_participants는 실제 멤버 행 수(호스트 포함)와 항상 같다.
+ */
+final class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final int MIN_PARTICIPANTS = 4;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    private static final List<Cluster> CLUSTERS = List.of(
+            new Cluster("서울시", "강남구", 37.5172, 127.0473, 6),
+            new Cluster("서울시", "서초구", 37.4837, 127.0324, 5),
+            new Cluster("서울시", "송파구", 37.5145, 127.1066, 6),
+            new Cluster("서울시", "마포구", 37.5663, 126.9019, 5),
+            new Cluster("서울시", "영등포구", 37.5264, 126.8962, 4),
+            new Cluster("서울시", "용산구", 37.5324, 126.9907, 4),
+            new Cluster("서울시", "중구", 37.5641, 126.9979, 3),
+            new Cluster("서울시", "종로구", 37.5735, 126.9790, 3),
+            new Cluster("서울시", "성동구", 37.5634, 127.0369, 4),
+            new Cluster("서울시", "광진구", 37.5385, 127.0823, 4),
+            new Cluster("서울시", "노원구", 37.6542, 127.0568, 4),
+            new Cluster("서울시", "강서구", 37.5510, 126.8495, 4),
+            new Cluster("서울시", "관악구", 37.4784, 126.9516, 4),
+            new Cluster("서울시", "은평구", 37.6027, 126.9291, 3),
+            new Cluster("부산시", "해운대구", 35.1631, 129.1636, 4),
+            new Cluster("부산시", "부산진구", 35.1629, 129.0532, 3),
+            new Cluster("부산시", "수영구", 35.1455, 129.1133, 2),
+            new Cluster("인천시", "연수구", 37.4101, 126.6783, 3),
+            new Cluster("인천시", "남동구", 37.4470, 126.7314, 3),
+            new Cluster("대구시", "수성구", 35.8581, 128.6306, 3),
+            new Cluster("대구시", "중구", 35.8693, 128.6062, 2),
+            new Cluster("대전시", "유성구", 36.3624, 127.3563, 3),
+            new Cluster("대전시", "서구", 36.3554, 127.3838, 2),
+            new Cluster("광주시", "서구", 35.1520, 126.8903, 2),
+            new Cluster("광주시", "북구", 35.1740, 126.9120, 2),
+            new Cluster("울산시", "남구", 35.5438, 129.3302, 2),
+            new Cluster("수원시", "영통구", 37.2596, 127.0465, 3),
+            new Cluster("성남시", "분당구", 37.3826, 127.1189, 4),
+            new Cluster("고양시", "일산동구", 37.6585, 126.7750, 3),
+            new Cluster("용인시", "수지구", 37.3223, 127.0977, 3),
+            new Cluster("화성시", "동탄", 37.2005, 127.0734, 3),
+            new Cluster("창원시", "성산구", 35.1983, 128.7024, 2),
+            new Cluster("전주시", "완산구", 35.8121, 127.1196, 2),
+            new Cluster("청주시", "흥덕구", 36.6424, 127.4289, 2),
+            new Cluster("제주시", "제주시", 33.4996, 126.5312, 2)
+    );
+    private static final Spread[] SPREADS = {
+            new Spread(0.55, 1.0),
+            new Spread(0.35, 3.5),
+            new Spread(0.10, 12.0)
+    };
+    private static final String[] PLACES = {
+            "근린공원 입구", "역 1번 출구", "천변 산책로", "종합운동장 정문", "호수공원 광장", "체육공원 트랙", "시청 앞 광장"
+    };
+    private static final String[] TITLES = {
+            "아침 러닝", "퇴근 후 러닝", "주말 장거리", "인터벌 훈련", "초보 환영 조깅", "하프 마라톤 준비", "야간 러닝"
+    };
+
+    private final DatasetProperties properties;
+    private final LocalDateTime anchor;
+    private final String passwordHash;
+    private final int[] cumulativeWeights;
+    private final ZipfSampler userActivity;
+    private final ZipfSampler[] crewSizes; // 정원별 참여자 수(호스트 포함) 샘플러
+    private final long userStride;
+
+    DatasetGenerator(DatasetProperties properties, LocalDateTime anchor, String passwordHash) {
+        if (properties.users() < 2 || properties.crews() < 0 || properties.maxParticipants() < MIN_PARTICIPANTS) {
+            throw new IllegalArgumentException(
+                    "users must be >= 2, crews >= 0 and maxParticipants >= " + MIN_PARTICIPANTS);
+        }
+        this.properties = properties;
+        this.anchor = anchor;
+        this.passwordHash = passwordHash;
+
+        this.cumulativeWeights = new int[CLUSTERS.size()];
+        int total = 0;
+        for (int i = 0; i < CLUSTERS.size(); i++) {
+            total += CLUSTERS.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+        this.userActivity = new ZipfSampler(properties.users(), properties.userActivityExponent());
+        this.crewSizes = new ZipfSampler[properties.maxParticipants() + 1];
+        for (int capacity = MIN_PARTICIPANTS; capacity <= properties.maxParticipants(); capacity++) {
+            crewSizes[capacity] = new ZipfSampler(capacity, properties.crewSizeExponent());
+        }
+        this.userStride = coprimeStride(properties.users());
+    }
+
+    record Summary(long regions, long users, long crews, long members) {
+    }
+
+    Summary generate(DatasetSink sink) {
+        SplittableRandom root = new SplittableRandom(properties.seed());
+        SplittableRandom userRandom = root.split();
+        SplittableRandom crewRandom = root.split();
+
+        for (int i = 0; i < CLUSTERS.size(); i++) {
+            Cluster cluster = CLUSTERS.get(i);
+            sink.region(new RegionRow(i + 1, cluster.city(), cluster.district()));
+        }
+
+        LocalDateTime userEpoch = anchor.minus(properties.past()).minusDays(180);
+        for (long id = 1; id <= properties.users(); id++) {
+            Long regionId = userRandom.nextInt(10) == 0 ? null : (long) pickCluster(userRandom) + 1;
+            sink.user(new UserRow(id, "user" + id + "@dataset.sole", passwordHash, "runner" + id, regionId,
+                    pickLevel(userRandom), userEpoch.plusMinutes(userRandom.nextLong(180L * 24 * 60))));
+        }
+
+        long members = 0;
+        long startedAt = System.nanoTime();
+        long[] chosen = new long[properties.maxParticipants()];
+        for (long crewId = 1; crewId <= properties.crews(); crewId++) {
+            members += crew(sink, crewRandom, crewId, chosen);
+            if (crewId % PROGRESS_INTERVAL == 0) {
+                double seconds = (System.nanoTime() - startedAt) / 1e9;
+                log.info("dataset progress crews={} members={} ({} crews/s)",
+                        crewId, members, Math.round(crewId / seconds));
+            }
+        }
+        return new Summary(CLUSTERS.size(), properties.users(), properties.crews(), members);
+    }
+
+    private int crew(DatasetSink sink, SplittableRandom random, long crewId, long[] chosen) {
+        int clusterIndex = pickCluster(random);
+        Cluster cluster = CLUSTERS.get(clusterIndex);
+        double[] point = scatter(random, cluster);
+
+        int capacity = random.nextInt(MIN_PARTICIPANTS, properties.maxParticipants() + 1);
+        int participants = (int) Math.min(crewSizes[capacity].sample(random), properties.users());
+
+        // 호스트 먼저, 나머지는 중복 없이 Zipf로 뽑는다
+        int count = 0;
+        while (count < participants) {
+            long userId = pickUser(random);
+            if (!contains(chosen, count, userId)) {
+                chosen[count++] = userId;
+            }
+        }
+
+        LocalDateTime meetingTime = meetingTime(random);
+        LocalDateTime createdAt = min(meetingTime.minusDays(random.nextInt(1, 22)).minusMinutes(random.nextInt(1440)),
+                anchor);
+        PreferredLevel level = pickLevel(random);
+        sink.crew(new CrewRow(crewId,
+                cluster.district() + " " + TITLES[random.nextInt(TITLES.length)] + " #" + crewId,
+                levelLabel(level) + " 페이스, " + random.nextInt(3, 22) + "km",
+                chosen[0], clusterIndex + 1L, meetingTime,
+                cluster.district() + " " + PLACES[random.nextInt(PLACES.length)],
+                point[0], point[1], capacity, participants, level, createdAt));
+
+        long joinWindowSeconds = Math.max(0, Duration.between(createdAt, min(meetingTime, anchor)).toSeconds());
+        long memberIdBase = memberIdBase(crewId);
+        for (int i = 0; i < participants; i++) {
+            LocalDateTime joinedAt = i == 0
+                    ? createdAt
+                    : createdAt.plusSeconds(joinWindowSeconds == 0 ? 0 : random.nextLong(joinWindowSeconds + 1));
+            sink.member(new MemberRow(memberIdBase + i, crewId, chosen[i], i == 0 ? CrewRole.HOST : CrewRole.MEMBER,
+                    joinedAt));
+        }
+        return participants;
+    }
+
+    /**
+     * 멤버 ID는 모임 ID * 최대 정원 구간에 배정한다. 앞 모임의 멤버 수와 무관하게 정해지므로
+     * 생성 순서만 지키면 되고, 중간에 빈 ID가 생기는 것은 AUTO_INCREMENT와 같다.
+     */
+    private long memberIdBase(long crewId) {
+        return (crewId - 1) * properties.maxParticipants() + 1;
+    }
+
+    /**
+     * 클러스터 중심에서 코어/시가지/교외 중 하나의 표준편차로 가우시안 오프셋을 준다.
+     */
+    private static double[] scatter(SplittableRandom random, Cluster cluster) {
+        double roll = random.nextDouble();
+        Spread spread = SPREADS[SPREADS.length - 1];
+        for (Spread candidate : SPREADS) {
+            if (roll < candidate.share()) {
+                spread = candidate;
+                break;
+            }
+            roll -= candidate.share();
+        }
+        double sigmaLat = spread.sigmaKm() / KM_PER_DEGREE;
+        double sigmaLng = spread.sigmaKm() / (KM_PER_DEGREE * Math.cos(Math.toRadians(cluster.latitude())));
+        double latitude = Math.clamp(cluster.latitude() + random.nextGaussian() * sigmaLat, -90.0, 90.0);
+        double longitude = Math.clamp(cluster.longitude() + random.nextGaussian() * sigmaLng, -180.0, 180.0);
+        return new double[]{round6(latitude), round6(longitude)};
+    }
+
+    /**
+     * anchor 기준 과거~미래 구간에서 날짜를 고르고, 시각은 새벽(06~08시)과 저녁(19~21시)에 몰리게 한다.
+     */
+    private LocalDateTime meetingTime(SplittableRandom random) {
+        long pastDays = properties.past().toDays();
+        long futureDays = properties.future().toDays();
+        long dayOffset = random.nextLong(-pastDays, futureDays + 1);
+
+        double slot = random.nextDouble();
+        int minuteOfDay;
+        if (slot < 0.45) {
+            minuteOfDay = random.nextInt(6 * 60, 8 * 60 + 1);
+        } else if (slot < 0.85) {
+            minuteOfDay = random.nextInt(19 * 60, 21 * 60 + 1);
+        } else {
+            minuteOfDay = random.nextInt(7 * 60, 22 * 60);
+        }
+        return anchor.toLocalDate().atStartOfDay().plusDays(dayOffset).plusMinutes(minuteOfDay / 10 * 10);
+    }
+
+    private int pickCluster(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private long pickUser(SplittableRandom random) {
+        long rank = userActivity.sample(random);
+        return (rank - 1) * userStride % properties.users() + 1;
+    }
+
+    private static PreferredLevel pickLevel(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 50 ? PreferredLevel.BEGINNER : roll < 85 ? PreferredLevel.INTERMEDIATE : PreferredLevel.ADVANCED;
+    }
+
+    private static String levelLabel(PreferredLevel level) {
+        return switch (level) {
+            case BEGINNER -> "초급";
+            case INTERMEDIATE -> "중급";
+            case ADVANCED -> "고급";
+        };
+    }
+
+    /**
+     * n과 서로소인 큰 보폭. rank → (rank-1) * stride mod n 이 1..n의 치환이 된다.
+     */
+    private static long coprimeStride(long n) {
+        long stride = 2_654_435_761L % n;
+        while (stride == 0 || gcd(stride, n) != 1) {
+            stride = (stride + 1) % n;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static boolean contains(long[] values, int size, long value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static double round6(double value) {
+        return Math.round(value * 1e6) / 1e6;
+    }
+
+    private record Cluster(String city, String district, double latitude, double longitude, int weight) {
+    }
+
+    private record Spread(double share, double sigmaKm) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.sole.global.dataset;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 성능 환경용 합성 데이터셋 설정 (sole.dataset.*).
+ * enabled=true로 기동하면 DatasetRunner가 seed로 결정되는 데이터를 만들어 output에 쓰고 종료한다.
+ * 같은 seed/anchor/규모면 언제 실행해도 같은 행이 나온다. anchor를 비우면 실행한 날 0시를 기준으로 한다.
+ * <p>
+ * 모임 정원은 4~maxParticipants 균등, 모임당 참여자 수는 crewSizeExponent를 지수로 하는 Zipf(대부분 소수, 일부 만석),
+ * 어떤 사용자가 참여/개설하는지는 userActivityExponent를 지수로 하는 Zipf(소수의 헤비 유저)를 따른다.
+ * 모임 시각은 anchor 기준 과거 past ~ 미래 future 사이에 고르게 퍼진다.
+ */
+@ConfigurationProperties(prefix = "sole.dataset")
+public record DatasetProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("42") long seed,
+        @DefaultValue("1000000") int users,
+        @DefaultValue("1000000") int crews,
+        @DefaultValue("30") int maxParticipants,
+        @DefaultValue("1.1") double crewSizeExponent,
+        @DefaultValue("0.8") double userActivityExponent,
+        @DefaultValue("P365D") Duration past,
+        @DefaultValue("P90D") Duration future,
+        LocalDateTime anchor,
+        @DefaultValue("password1234") String password,
+        @DefaultValue("database") Output output,
+        @DefaultValue("5000") int batchSize,
+        @DefaultValue("build/dataset") Path directory,
+        @DefaultValue("true") boolean exitWhenDone
+) {
+
+    public enum Output {
+        DATABASE, // 현재 DataSource(MySQL/H2)에 JDBC 배치 INSERT
+        FILES     // directory에 MySQL LOAD DATA용 TSV와 load.sql
+    }
+}
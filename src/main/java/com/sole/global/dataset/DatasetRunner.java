@@ -0,0 +1,78 @@
+package com.sole.global.dataset;
+
+import com.sole.global.dataset.DatasetGenerator.Summary;
+import com.sole.global.security.PasswordHashingProperties;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * sole.dataset.enabled=true면 기동 직후 합성 데이터셋을 만들어 쓰고, exitWhenDone이면 애플리케이션을 종료한다.
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=local --sole.dataset.enabled=true --sole.dataset.crews=2000000'
+ * ./gradlew bootRun --args='--sole.dataset.enabled=true --sole.dataset.output=files'
+ * </pre>
+ * database 출력은 빈 테이블에만 쓰고 트래픽을 받기 전에 끝나므로, 지연 적재되는 주변 검색 인덱스나 캐시를 따로 비울 필요가 없다.
+ * 모든 사용자의 비밀번호는 password 하나를 현재 BCrypt cost로 해시한 값이라 로그인 부하 테스트에 그대로 쓸 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sole.dataset", name = "enabled", havingValue = "true")
+public class DatasetRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetRunner.class);
+
+    private final DatasetProperties properties;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        LocalDateTime anchor = properties.anchor() != null ? properties.anchor() : LocalDate.now().atStartOfDay();
+        String description = "sole dataset seed=%d anchor=%s users=%d crews=%d"
+                .formatted(properties.seed(), anchor, properties.users(), properties.crews());
+        log.info("dataset generation started: {} output={}", description, properties.output());
+
+        DatasetGenerator generator = new DatasetGenerator(properties, anchor, passwordHash());
+        long startedAt = System.nanoTime();
+        Summary summary;
+        try (DatasetSink sink = properties.output() == DatasetProperties.Output.FILES
+                ? new LoadDataFileSink(properties.directory(), description)
+                : new JdbcDatasetSink(jdbcTemplate, properties.batchSize())) {
+            summary = generator.generate(sink);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        long rows = summary.regions() + summary.users() + summary.crews() + summary.members();
+        log.info("dataset generation finished: regions={} users={} crews={} members={} in {}s ({} rows/s){}",
+                summary.regions(), summary.users(), summary.crews(), summary.members(),
+                Math.round(seconds), Math.round(rows / seconds),
+                properties.output() == DatasetProperties.Output.FILES ? " -> " + properties.directory().toAbsolutePath() : "");
+
+        if (properties.exitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    /**
+     * salt까지 seed에서 만들어 실행할 때마다 같은 해시가 나오게 한다.
+     * cost는 sole.security.password.strength와 같아서 로그인 시 재해시(쓰기)가 일어나지 않는다.
+     */
+    private String passwordHash() throws NoSuchAlgorithmException {
+        SecureRandom salt = SecureRandom.getInstance("SHA1PRNG");
+        salt.setSeed(properties.seed());
+        return new BCryptPasswordEncoder(passwordHashingProperties.strength(), salt).encode(properties.password());
+    }
+}
@@ -0,0 +1,41 @@
+package com.sole.global.dataset;
+
+import com.sole.domain.crew.entity.CrewRole;
+import com.sole.domain.user.entity.PreferredLevel;
+import java.time.LocalDateTime;
+
+/**
+ * 생성된 행을 받는 출력. DatasetGenerator는 regions → users → (모임, 그 모임의 멤버) 순서로 호출하므로
+ * 구현은 외래 키 순서대로 쓰기만 하면 된다. ID는 모두 생성기가 1부터 매긴 값이다.
+ */
+interface DatasetSink extends AutoCloseable {
+
+    void region(RegionRow row);
+
+    void user(UserRow row);
+
+    void crew(CrewRow row);
+
+    void member(MemberRow row);
+
+    /**
+     * 남은 행을 모두 쓰고 마무리한다 (통계 갱신, 적재 스크립트 작성 등).
+     */
+    @Override
+    void close() throws Exception;
+
+    record RegionRow(long id, String city, String district) {
+    }
+
+    record UserRow(long id, String email, String password, String nickname, Long regionId,
+                   PreferredLevel level, LocalDateTime createdAt) {
+    }
+
+    record CrewRow(long id, String title, String description, long hostId, long regionId,
+                   LocalDateTime meetingTime, String place, double latitude, double longitude,
+                   int maxParticipants, int currentParticipants, PreferredLevel level, LocalDateTime createdAt) {
+    }
+
+    record MemberRow(long id, long crewId, long userId, CrewRole role, LocalDateTime joinedAt) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.sole.global.dataset;
+
+import com.sole.global.util.GeoCell;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 현재 DataSource에 batchSize 행씩 JDBC 배치 INSERT로 흘려 보낸다 (MySQL은 rewriteBatchedStatements로 multi-row INSERT).
+ * 트랜잭션 없이 배치마다 커밋하므로 수백만 행도 메모리에 쌓이지 않는다.
+ * 어떤 테이블의 버퍼가 차면 외래 키로 참조하는 앞 테이블의 버퍼부터 먼저 비운다.
+ * <p>
+ * 생성기가 매긴 ID를 그대로 넣으므로 대상 테이블은 비어 있어야 한다. 끝나면 H2는 IDENTITY 시작값을 맞추고,
+ * 두 DB 모두 통계를 갱신해 바로 EXPLAIN을 볼 수 있게 한다.
+ */
+final class JdbcDatasetSink implements DatasetSink {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Map<Table, List<Object[]>> buffers = new EnumMap<>(Table.class);
+    private final Map<Table, Long> lastIds = new EnumMap<>(Table.class);
+
+    JdbcDatasetSink(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        for (Table table : Table.values()) {
+            Boolean exists = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + table.tableName + ")", Boolean.class);
+            if (Boolean.TRUE.equals(exists)) {
+                throw new IllegalStateException(table.tableName + " is not empty; dataset generation needs an empty schema");
+            }
+            buffers.put(table, new ArrayList<>(batchSize));
+        }
+    }
+
+    @Override
+    public void region(RegionRow row) {
+        add(Table.REGIONS, row.id(), new Object[]{row.id(), row.city(), row.district()});
+    }
+
+    @Override
+    public void user(UserRow row) {
+        add(Table.USERS, row.id(), new Object[]{row.id(), row.email(), row.password(), row.nickname(), row.regionId(),
+                row.level().name(), row.createdAt(), row.createdAt()});
+    }
+
+    @Override
+    public void crew(CrewRow row) {
+        add(Table.CREWS, row.id(), new Object[]{row.id(), row.title(), row.description(), row.hostId(), row.regionId(),
+                row.meetingTime(), row.place(), row.latitude(), row.longitude(),
+                GeoCell.of(row.latitude(), row.longitude()), row.maxParticipants(), row.currentParticipants(),
+                row.level().name(), row.createdAt(), row.createdAt()});
+    }
+
+    @Override
+    public void member(MemberRow row) {
+        add(Table.MEMBERS, row.id(), new Object[]{row.id(), row.crewId(), row.userId(), row.role().name(),
+                row.joinedAt()});
+    }
+
+    @Override
+    public void close() {
+        flushThrough(Table.MEMBERS);
+
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            // H2는 명시한 ID를 넣어도 IDENTITY 시퀀스가 따라오지 않는다
+            lastIds.forEach((table, lastId) -> jdbcTemplate.execute(
+                    "ALTER TABLE " + table.tableName + " ALTER COLUMN id RESTART WITH " + (lastId + 1)));
+            jdbcTemplate.execute("ANALYZE");
+        } else if ("MySQL".equals(product)) {
+            jdbcTemplate.execute("ANALYZE TABLE regions, users, running_crews, crew_members");
+        }
+    }
+
+    private void add(Table table, long id, Object[] values) {
+        List<Object[]> buffer = buffers.get(table);
+        buffer.add(values);
+        lastIds.put(table, id);
+        if (buffer.size() >= batchSize) {
+            flushThrough(table);
+        }
+    }
+
+    private void flushThrough(Table last) {
+        for (Table table : Table.values()) {
+            List<Object[]> buffer = buffers.get(table);
+            if (!buffer.isEmpty()) {
+                jdbcTemplate.batchUpdate(table.insertSql, buffer);
+                buffer.clear();
+            }
+            if (table == last) {
+                return;
+            }
+        }
+    }
+
+    // 외래 키 순서
+    private enum Table {
+        REGIONS("regions", """
+                INSERT INTO regions (id, city, district) VALUES (?, ?, ?)"""),
+        USERS("users", """
+                INSERT INTO users (id, email, password, nickname, region_id, preferred_level, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)"""),
+        CREWS("running_crews", """
+                INSERT INTO running_crews (id, title, description, host_id, region_id, meeting_time, place,
+                    latitude, longitude, geo_cell, max_participants, current_participants, level, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"""),
+        MEMBERS("crew_members", """
+                INSERT INTO crew_members (id, crew_id, user_id, role, joined_at) VALUES (?, ?, ?, ?, ?)""");
+
+        private final String tableName;
+        private final String insertSql;
+
+        Table(String tableName, String insertSql) {
+            this.tableName = tableName;
+            this.insertSql = insertSql;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.sole.global.dataset;
+
+import com.sole.global.util.GeoCell;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * MySQL LOAD DATA 기본 형식(탭 구분, 줄바꿈 종료, 백슬래시 이스케이프, NULL은 \N)의 TSV 파일과
+ * 그것을 순서대로 적재하는 load.sql을 directory에 쓴다. location 같은 생성 컬럼은 컬럼 목록에서 빼 MySQL이 계산하게 둔다.
+ * <pre>
+ * cd build/dataset &amp;&amp; mysql --local-infile=1 -u sole_user -p sole &lt; load.sql
+ * </pre>
+ * 수백만 행 규모에서는 JDBC 배치 INSERT보다 LOAD DATA가 훨씬 빠르다.
+ */
+final class LoadDataFileSink implements DatasetSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+    private final String header;
+    private final Writer regions;
+    private final Writer users;
+    private final Writer crews;
+    private final Writer members;
+
+    LoadDataFileSink(Path directory, String header) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.header = header;
+        this.regions = open("regions.tsv");
+        this.users = open("users.tsv");
+        this.crews = open("running_crews.tsv");
+        this.members = open("crew_members.tsv");
+    }
+
+    @Override
+    public void region(RegionRow row) {
+        write(regions, row.id(), row.city(), row.district());
+    }
+
+    @Override
+    public void user(UserRow row) {
+        write(users, row.id(), row.email(), row.password(), row.nickname(), row.regionId(), row.level().name(),
+                row.createdAt(), row.createdAt());
+    }
+
+    @Override
+    public void crew(CrewRow row) {
+        write(crews, row.id(), row.title(), row.description(), row.hostId(), row.regionId(), row.meetingTime(),
+                row.place(), row.latitude(), row.longitude(), GeoCell.of(row.latitude(), row.longitude()),
+                row.maxParticipants(), row.currentParticipants(), row.level().name(), row.createdAt(), row.createdAt());
+    }
+
+    @Override
+    public void member(MemberRow row) {
+        write(members, row.id(), row.crewId(), row.userId(), row.role().name(), row.joinedAt());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (regions; users; crews; members) {
+            regions.flush();
+            users.flush();
+            crews.flush();
+            members.flush();
+        }
+        Files.writeString(directory.resolve("load.sql"), """
+                -- %s
+                -- 이 디렉터리에서 실행: mysql --local-infile=1 -u <user> -p <database> < load.sql
+                -- 대상 테이블은 비어 있어야 한다 (ID를 그대로 넣는다).
+                SET SESSION foreign_key_checks = 0;
+                SET SESSION unique_checks = 0;
+                LOAD DATA LOCAL INFILE 'regions.tsv' INTO TABLE regions CHARACTER SET utf8mb4
+                    (id, city, district);
+                LOAD DATA LOCAL INFILE 'users.tsv' INTO TABLE users CHARACTER SET utf8mb4
+                    (id, email, password, nickname, region_id, preferred_level, created_at, updated_at);
+                LOAD DATA LOCAL INFILE 'running_crews.tsv' INTO TABLE running_crews CHARACTER SET utf8mb4
+                    (id, title, description, host_id, region_id, meeting_time, place, latitude, longitude, geo_cell,
+                     max_participants, current_participants, level, created_at, updated_at);
+                LOAD DATA LOCAL INFILE 'crew_members.tsv' INTO TABLE crew_members CHARACTER SET utf8mb4
+                    (id, crew_id, user_id, role, joined_at);
+                SET SESSION unique_checks = 1;
+                SET SESSION foreign_key_checks = 1;
+                ANALYZE TABLE regions, users, running_crews, crew_members;
+                """.formatted(header), StandardCharsets.UTF_8);
+    }
+
+    private Writer open(String fileName) throws IOException {
+        return Files.newBufferedWriter(directory.resolve(fileName), StandardCharsets.UTF_8);
+    }
+
+    private static void write(Writer writer, Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write('\t');
+                }
+                writer.write(format(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "\\N";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return DATE_TIME.format(dateTime);
+        }
+        if (value instanceof String text) {
+            return escape(text);
+        }
+        return value.toString();
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 8).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +76,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(code.getHttpStatus()).body(body);
     }
 
+    // 매핑되지 않은 경로 (서비스 포트로 들어온 /actuator/** 포함)
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResourceFound(NoResourceFoundException ex) {
+        ErrorCode code = ErrorCode.RESOURCE_NOT_FOUND;
+        ErrorResponse body = ErrorResponse.of(code);
+        return ResponseEntity.status(code.getHttpStatus()).body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception ex) {
         ErrorResponse body = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
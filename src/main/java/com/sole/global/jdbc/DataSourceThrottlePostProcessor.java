@@ -0,0 +1,44 @@
+package com.sole.global.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * sole.datasource.throttle.enabled가 켜져 있으면 Hikari DataSource를 ThrottledDataSource로 감싼다.
+ * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 설정은 빈 주입 대신 Environment에서 직접 읽는다.
+ */
+public class DataSourceThrottlePostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceThrottlePostProcessor.class);
+
+    private DataSourceThrottleProperties properties;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.properties = Binder.get(environment)
+                .bindOrCreate("sole.datasource.throttle", DataSourceThrottleProperties.class);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!properties.enabled() || !(bean instanceof HikariDataSource hikari)) {
+            return bean;
+        }
+        int maxConnections = hikari.getMaximumPoolSize();
+        log.info("datasource {} throttled permits={} acquireTimeout={}",
+                beanName, maxConnections, properties.acquireTimeout());
+        return new ThrottledDataSource(hikari, maxConnections, properties.acquireTimeout());
+    }
+
+    // Hikari를 가장 먼저 감싸야 다른 DataSource 래퍼(StatementCountingDataSource)가 그 바깥에 놓인다
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
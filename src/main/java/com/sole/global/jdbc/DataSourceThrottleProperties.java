@@ -0,0 +1,16 @@
+package com.sole.global.jdbc;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 커넥션 풀 앞단 세마포어 설정 (sole.datasource.throttle.*).
+ * 허용 동시 커넥션 수는 Hikari maximumPoolSize를 그대로 쓴다.
+ */
+@ConfigurationProperties(prefix = "sole.datasource.throttle")
+public record DataSourceThrottleProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("PT10S") Duration acquireTimeout
+) {
+}
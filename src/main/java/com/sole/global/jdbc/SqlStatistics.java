@@ -0,0 +1,82 @@
+package com.sole.global.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 동안 실행한 SQL 통계 (문장 수, 읽은 행 수, JDBC 누적 시간).
+ * RequestLoggingFilter가 요청 시작에 열고 끝에 닫으며, StatementCountingDataSource가 열린 동안만 집계한다.
+ * 요청 스레드에서만 쓰므로 동기화하지 않는다.
+ * 세션 저장소 조회/기록처럼 요청 처리와 무관한 인프라 SQL은 uncounted로 감싸 경로별 예산에서 뺀다.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+    private int uncountedDepth;
+
+    private SqlStatistics() {
+    }
+
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * work가 실행한 SQL을 현재 요청 통계에 넣지 않는다.
+     */
+    public static <T> T uncounted(Supplier<T> work) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return work.get();
+        }
+        statistics.uncountedDepth++;
+        try {
+            return work.get();
+        } finally {
+            statistics.uncountedDepth--;
+        }
+    }
+
+    void recordStatement(long nanos) {
+        if (uncountedDepth > 0) {
+            return;
+        }
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void recordFetch(boolean hasRow, long nanos) {
+        if (uncountedDepth > 0) {
+            return;
+        }
+        if (hasRow) {
+            rows++;
+        }
+        jdbcNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long jdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+}
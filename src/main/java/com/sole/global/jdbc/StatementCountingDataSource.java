@@ -0,0 +1,104 @@
+package com.sole.global.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 요청별 SQL 통계(SqlStatistics)를 모으는 DataSource.
+ * JPA/MyBatis/JdbcTemplate이 모두 거치는 JDBC 층에서 execute* 호출 수와 시간, ResultSet.next로 읽은 행 수와 시간을 센다.
+ * executeBatch는 왕복 한 번이므로 1로 센다. 통계가 열려 있지 않은 스레드(스케줄러 등)는 원본 커넥션을 그대로 받는다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return count(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return count(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection count(Connection connection) {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics == null) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            String name = method.getName();
+            if (result instanceof Statement statement && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                return countStatement(method.getReturnType(), statement, statistics);
+            }
+            return result;
+        });
+    }
+
+    private static Object countStatement(Class<?> type, Statement statement, SqlStatistics statistics) {
+        return proxy(type, statement, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    Object result = invoke(statement, method, args);
+                    return result instanceof ResultSet resultSet ? countRows(resultSet, statistics) : result;
+                } finally {
+                    statistics.recordStatement(System.nanoTime() - start);
+                }
+            }
+            Object result = invoke(statement, method, args);
+            if (result instanceof ResultSet resultSet && (name.equals("getResultSet") || name.equals("getGeneratedKeys"))) {
+                return countRows(resultSet, statistics);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet countRows(ResultSet resultSet, SqlStatistics statistics) {
+        return proxy(ResultSet.class, resultSet, (method, args) -> {
+            if (method.getName().equals("next")) {
+                long start = System.nanoTime();
+                boolean hasRow = (boolean) invoke(resultSet, method, args);
+                statistics.recordFetch(hasRow, System.nanoTime() - start);
+                return hasRow;
+            }
+            return invoke(resultSet, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Counting[" + target + "]";
+                    default -> handler.handle(method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
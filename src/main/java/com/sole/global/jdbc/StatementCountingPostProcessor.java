@@ -0,0 +1,38 @@
+package com.sole.global.jdbc;
+
+import com.sole.global.logging.RequestLoggingProperties;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * sole.logging.request.sql-statistics가 켜져 있으면 DataSource를 StatementCountingDataSource로 감싼다.
+ * 세마포어(ThrottledDataSource)보다 바깥에 두어야 하므로 가장 늦게 적용한다.
+ */
+public class StatementCountingPostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    private boolean enabled;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.enabled = Binder.get(environment)
+                .bindOrCreate("sole.logging.request", RequestLoggingProperties.class)
+                .sqlStatistics();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource) {
+            return bean;
+        }
+        return new StatementCountingDataSource(dataSource);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,133 @@
+package com.sole.global.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 풀 크기만큼의 공정 세마포어로 커넥션 획득을 제한하는 DataSource.
+ * 가상 스레드는 수천 개가 동시에 커넥션을 요청할 수 있는데, 풀 안에서 기다리면 connectionTimeout에 걸려 실패한다.
+ * 세마포어 대기는 가상 스레드를 캐리어에서 내려놓는 값싼 대기이므로 풀에는 빈 커넥션 수만큼만 들어가게 한다.
+ * <p>
+ * 같은 스레드가 이미 커넥션을 들고 있으면 허가 없이 통과시킨다 (중첩 트랜잭션이 자기 허가를 기다리는 교착 방지).
+ */
+public class ThrottledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final ThreadLocal<int[]> heldByThread = ThreadLocal.withInitial(() -> new int[1]);
+
+    public ThrottledDataSource(DataSource target, int maxConnections, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Permit permit = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(), permit);
+        } catch (SQLException | RuntimeException e) {
+            release(permit);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Permit permit = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password), permit);
+        } catch (SQLException | RuntimeException e) {
+            release(permit);
+            throw e;
+        }
+    }
+
+    public int waitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private Permit acquire() throws SQLException {
+        int[] held = heldByThread.get();
+        if (held[0] > 0) {
+            held[0]++;
+            return new Permit(held, false);
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "connection permit not available within " + Duration.ofNanos(acquireTimeoutNanos)
+                                + " (waiting=" + permits.getQueueLength() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("interrupted while waiting for a connection permit", e);
+        }
+        held[0] = 1;
+        return new Permit(held, true);
+    }
+
+    // 다른 스레드에서 닫혀도 획득한 스레드의 보유 수를 줄이도록 카운터 배열을 그대로 들고 다닌다
+    private void release(Permit permit) {
+        permit.held()[0]--;
+        if (permit.owner()) {
+            permits.release();
+        }
+    }
+
+    // close()가 여러 번 불려도 허가는 한 번만 돌려준다
+    private Connection guard(Connection target, Permit permit) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            try {
+                                target.close();
+                            } finally {
+                                if (closed.compareAndSet(false, true)) {
+                                    release(permit);
+                                }
+                            }
+                            return null;
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "toString" -> {
+                            return "Throttled[" + target + "]";
+                        }
+                        default -> {
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        }
+                    }
+                });
+    }
+
+    // owner면 세마포어 허가를 실제로 받은 것, 아니면 같은 스레드의 중첩 획득
+    private record Permit(int[] held, boolean owner) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.sole.global.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 풀 앞 세마포어 상태를 게이지로 노출한다 (세마포어가 켜진 경우만).
+ * Hikari 자체 지표(hikaricp.connections.*)는 Boot가 따로 등록하므로, 여기서는 풀에 들어가기 전 대기만 본다.
+ */
+@Component
+public class ThrottledDataSourceMetrics implements MeterBinder {
+
+    private final ObjectProvider<DataSource> dataSources;
+
+    public ThrottledDataSourceMetrics(ObjectProvider<DataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        dataSources.orderedStream()
+                .map(ThrottledDataSourceMetrics::unwrapThrottled)
+                .filter(Objects::nonNull)
+                .forEach(dataSource -> {
+                    Gauge.builder("sole.datasource.throttle.waiting", dataSource, ThrottledDataSource::waitingThreads)
+                            .description("커넥션 허가를 기다리는 스레드 수")
+                            .register(registry);
+                    Gauge.builder("sole.datasource.throttle.available", dataSource, ThrottledDataSource::availablePermits)
+                            .description("남은 커넥션 허가 수")
+                            .register(registry);
+                });
+    }
+
+    // StatementCountingDataSource 같은 다른 래퍼 안에 있어도 찾는다
+    private static ThrottledDataSource unwrapThrottled(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ThrottledDataSource.class) ? dataSource.unwrap(ThrottledDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -1,45 +1,87 @@
 package com.sole.global.logging;
 
+import com.sole.global.jdbc.SqlStatistics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 /**
- * 요청 단위로 traceId를 생성해 MDC에 주입하고, 처리 시간을 로깅한다.
- * 슬로우 요청(기본 1000ms 초과)은 WARN 레벨로 표시한다.
+ * 요청 단위로 traceId를 생성해 MDC에 주입하고, 처리 시간과 SQL 통계(문장 수, 읽은 행 수, JDBC 시간)를 로깅한다.
+ * 슬로우 요청(기본 1000ms 초과)과 5xx/예외는 WARN, 4xx는 INFO로 항상 남기고,
+ * 나머지 성공 요청은 sampleRate 비율만 INFO로 남긴다. 출력은 logback-spring.xml의 비동기 appender가 맡는다.
+ * 경로 템플릿별 SQL 문장 예산을 넘은 요청은 샘플링과 관계없이 WARN을 하나 더 남긴다.
  */
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(RequestLoggingFilter.class);
-    private static final long SLOW_THRESHOLD_MS = 1000L;
+
+    private final RequestLoggingProperties properties;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestLoggingFilter(RequestLoggingProperties properties) {
+        this.properties = properties;
+        this.sampleRate = properties.sampleRate();
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String traceId = UUID.randomUUID().toString();
-        long start = System.currentTimeMillis();
+        String traceId = TraceIdGenerator.next();
+        SqlStatistics sql = properties.sqlStatistics() ? SqlStatistics.start() : null;
+        long start = System.nanoTime();
+        boolean failed = true;
         MDC.put("traceId", traceId);
         try {
             filterChain.doFilter(request, response);
+            failed = false;
         } finally {
-            long elapsed = System.currentTimeMillis() - start;
+            long elapsedNanos = System.nanoTime() - start;
+            long elapsedMs = elapsedNanos / 1_000_000;
+            boolean slow = elapsedNanos > slowThresholdNanos;
             int status = response.getStatus();
-            String method = request.getMethod();
-            String uri = request.getRequestURI();
+            int sqlCount = sql == null ? 0 : sql.statements();
+            long sqlRows = sql == null ? 0 : sql.rows();
+            long sqlMs = sql == null ? 0 : sql.jdbcMillis();
 
-            if (elapsed > SLOW_THRESHOLD_MS) {
-                log.warn("slow request traceId={} method={} uri={} status={} elapsedMs={}", traceId, method, uri, status, elapsed);
-            } else {
-                log.info("request traceId={} method={} uri={} status={} elapsedMs={}", traceId, method, uri, status, elapsed);
+            if (slow) {
+                log.warn("slow request traceId={} method={} uri={} status={} elapsedMs={} sqlCount={} sqlRows={} sqlMs={}",
+                        traceId, request.getMethod(), request.getRequestURI(), status, elapsedMs, sqlCount, sqlRows, sqlMs);
+            } else if (failed || status >= 500) {
+                log.warn("failed request traceId={} method={} uri={} status={} elapsedMs={} sqlCount={} sqlRows={} sqlMs={}",
+                        traceId, request.getMethod(), request.getRequestURI(), status, elapsedMs, sqlCount, sqlRows, sqlMs);
+            } else if (status >= 400 || sampled()) {
+                log.info("request traceId={} method={} uri={} status={} elapsedMs={} sqlCount={} sqlRows={} sqlMs={}",
+                        traceId, request.getMethod(), request.getRequestURI(), status, elapsedMs, sqlCount, sqlRows, sqlMs);
             }
-            MDC.clear();
+            if (sql != null) {
+                warnIfOverBudget(request, traceId, sqlCount);
+                SqlStatistics.end();
+            }
+            MDC.remove("traceId");
         }
     }
+
+    private void warnIfOverBudget(HttpServletRequest request, String traceId, int sqlCount) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        int budget = properties.budgetFor(route);
+        if (sqlCount > budget) {
+            log.warn("statement budget exceeded traceId={} route={} sqlCount={} budget={}",
+                    traceId, route, sqlCount, budget);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
 }
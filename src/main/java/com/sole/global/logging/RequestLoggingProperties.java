@@ -0,0 +1,28 @@
+package com.sole.global.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청 로그 설정 (sole.logging.request.*).
+ * 빠르고 성공한 요청은 sampleRate(0.0~1.0) 비율만 남기고, slowThreshold를 넘거나 4xx/5xx/예외인 요청은 항상 남긴다.
+ * asyncQueueSize는 logback-spring.xml의 요청 로그 비동기 appender 큐 크기다.
+ * sqlStatistics가 켜져 있으면 요청별 SQL 문장 수/행 수/JDBC 시간을 함께 남기고, 문장 수가 경로별 예산
+ * (statementBudgets의 "METHOD 경로 템플릿" 키, 없으면 statementBudget)을 넘으면 WARN을 남긴다.
+ */
+@ConfigurationProperties(prefix = "sole.logging.request")
+public record RequestLoggingProperties(
+        @DefaultValue("1.0") double sampleRate,
+        @DefaultValue("1000ms") Duration slowThreshold,
+        @DefaultValue("8192") int asyncQueueSize,
+        @DefaultValue("true") boolean sqlStatistics,
+        @DefaultValue("20") int statementBudget,
+        @DefaultValue Map<String, Integer> statementBudgets
+) {
+
+    public int budgetFor(String route) {
+        return statementBudgets.getOrDefault(route, statementBudget);
+    }
+}
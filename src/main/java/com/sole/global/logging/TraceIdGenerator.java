@@ -0,0 +1,34 @@
+package com.sole.global.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순서 traceId 생성기.
+ * 앞 48비트는 epoch millis, 뒤 80비트는 ThreadLocalRandom 값인 128비트를 32자리 소문자 hex로 만든다
+ * (W3C traceparent의 trace-id와 같은 형식). UUID.randomUUID()와 달리 공유 SecureRandom을 거치지 않는다.
+ * 보안 토큰이 아니라 로그 상관관계용 식별자다.
+ */
+public final class TraceIdGenerator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceIdGenerator() {
+    }
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = (System.currentTimeMillis() << 16) | (random.nextInt() & 0xFFFF);
+        long low = random.nextLong();
+        char[] chars = new char[32];
+        writeHex(high, chars, 0);
+        writeHex(low, chars, 16);
+        return new String(chars);
+    }
+
+    private static void writeHex(long value, char[] out, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
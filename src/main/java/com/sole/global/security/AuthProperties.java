@@ -0,0 +1,26 @@
+package com.sole.global.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 인증 방식 설정 (sole.security.auth.*).
+ * - SESSION: 로그인 시 SecurityContext를 HTTP 세션에 저장 (기존 방식)
+ * - TOKEN: 로그인 시 HMAC 서명 access/refresh 토큰을 발급하고 요청마다 Authorization 헤더로 검증 (세션 없음)
+ * TOKEN 모드에서는 모든 노드가 같은 tokenSecret(32바이트 이상)을 써야 하며, 비어 있거나 짧으면 기동에 실패한다.
+ */
+@ConfigurationProperties(prefix = "sole.security.auth")
+public record AuthProperties(
+        @DefaultValue("SESSION") Mode mode,
+        String tokenSecret,
+        @DefaultValue("PT15M") Duration accessTokenTtl,
+        @DefaultValue("P14D") Duration refreshTokenTtl,
+        @DefaultValue("10000") long claimsCacheSize
+) {
+
+    public enum Mode {
+        SESSION,
+        TOKEN
+    }
+}
@@ -0,0 +1,51 @@
+package com.sole.global.security;
+
+import com.sole.domain.user.service.UserPrincipal;
+import com.sole.global.security.TokenClaims.TokenType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * 토큰 인증 모드에서 Authorization: Bearer 헤더의 access 토큰을 검증해 SecurityContext를 채운다.
+ * 토큰이 없거나 유효하지 않으면 인증 없이 넘기고, 보호된 경로는 RestAuthenticationEntryPoint가 401로 응답한다.
+ * SecurityConfig에서만 체인에 추가한다 (빈으로 등록하면 서블릿 필터로도 한 번 더 등록된다).
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public BearerTokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(PREFIX)) {
+            tokenService.verify(header.substring(PREFIX.length()).trim(), TokenType.ACCESS)
+                    .ifPresent(claims -> {
+                        UserPrincipal principal = claims.toPrincipal();
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        UsernamePasswordAuthenticationToken authentication =
+                                UsernamePasswordAuthenticationToken.authenticated(
+                                        principal, null, principal.getAuthorities());
+                        // 로그아웃이 이 로그인의 refresh 토큰 계열을 찾을 수 있도록 claims를 함께 둔다
+                        authentication.setDetails(claims);
+                        context.setAuthentication(authentication);
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,24 @@
+package com.sole.global.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비밀번호 해시 설정 (sole.security.password.*).
+ * strength는 BCrypt cost(2^strength 라운드)이며, 로그인 시 이보다 낮은 cost로 저장된 해시는 새 cost로 다시 저장한다.
+ * threads가 0이면 CPU 코어 수의 절반(최소 1)을 쓴다. 대기열이 queueCapacity를 넘으면 즉시 503으로 거절하고,
+ * 대기열에 들어갔더라도 waitTimeout 안에 결과가 나오지 않으면 503으로 포기한다.
+ */
+@ConfigurationProperties(prefix = "sole.security.password")
+public record PasswordHashingProperties(
+        @DefaultValue("10") int strength,
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("PT5S") Duration waitTimeout
+) {
+
+    public int threadsOrDefault() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
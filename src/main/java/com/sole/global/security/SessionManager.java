@@ -1,9 +1,11 @@
 package com.sole.global.security;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.logout.CookieClearingLogoutHandler;
 import org.springframework.stereotype.Component;
 
 /*
@@ -14,17 +16,22 @@ import org.springframework.stereotype.Component;
 @Component
 public class SessionManager {
 
+    private static final CookieClearingLogoutHandler SESSION_COOKIE_CLEANER =
+            new CookieClearingLogoutHandler("JSESSIONID");
+
     public void storeAuthentication(HttpServletRequest request, Authentication authentication) {
         HttpSession session = request.getSession(true);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         session.setAttribute("SPRING_SECURITY_CONTEXT", SecurityContextHolder.getContext());
     }
 
-    public void clearSession(HttpServletRequest request) {
+    // 세션을 무효화하고 브라우저의 세션 쿠키도 지운다 (LogoutFilter의 deleteCookies와 같은 동작)
+    public void clearSession(HttpServletRequest request, HttpServletResponse response) {
         HttpSession session = request.getSession(false);
         if (session != null) {
             session.invalidate();
         }
+        SESSION_COOKIE_CLEANER.logout(request, response, null);
         SecurityContextHolder.clearContext();
     }
 }
@@ -0,0 +1,34 @@
+package com.sole.global.security;
+
+import com.sole.domain.user.service.UserPrincipal;
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰 내용. 두 토큰 모두 발급된 로그인의 refresh 토큰 계열 id(familyId)를 담는다.
+ * refresh 토큰은 email/nickname 대신 계열의 rotation과 발급 당시 사용자의 tokenVersion을 담고,
+ * access 토큰의 rotation/tokenVersion은 0이다 (검증에 쓰지 않는다).
+ */
+public record TokenClaims(
+        TokenType type,
+        Long userId,
+        long familyId,
+        int rotation,
+        int tokenVersion,
+        String email,
+        String nickname,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public UserPrincipal toPrincipal() {
+        return UserPrincipal.of(userId, email, nickname);
+    }
+
+    public enum TokenType {
+        ACCESS,
+        REFRESH
+    }
+}
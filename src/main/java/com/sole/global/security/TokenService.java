@@ -0,0 +1,191 @@
+package com.sole.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sole.domain.auth.dto.TokenResponse;
+import com.sole.domain.user.service.UserPrincipal;
+import com.sole.global.security.TokenClaims.TokenType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * HMAC-SHA256 서명 토큰 발급/검증.
+ * 형식은 base64url(payload) + "." + base64url(서명)이고 payload는 버전, 종류, userId, 만료 시각(초), refresh 토큰 계열 id,
+ * (access만) 이메일/닉네임, (refresh만) 계열의 rotation과 사용자의 tokenVersion을 바이너리로 담는다. 검증은 DB/세션 조회 없이 CPU만 쓰며,
+ * 검증을 통과한 토큰의 claims는 LRU에 두어 같은 토큰의 반복 요청은 서명 계산도 건너뛴다(만료는 매번 확인).
+ */
+@Component
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 3;
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final AuthProperties properties;
+    private final Clock clock;
+    private final Mac prototype;
+    private final Cache<String, TokenClaims> claimsCache;
+
+    @Autowired
+    public TokenService(AuthProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    TokenService(AuthProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.prototype = initMac(secretKey(properties));
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(properties.claimsCacheSize())
+                .expireAfterWrite(properties.accessTokenTtl())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.mode() == AuthProperties.Mode.TOKEN;
+    }
+
+    /**
+     * familyId/rotation은 이 로그인의 refresh 토큰 계열과 현재 회전 값, tokenVersion은 사용자의 현재 버전이다.
+     * refresh 시 둘 중 하나라도 DB와 다르면(회전/로그아웃 이후, 전체 로그아웃/비밀번호 변경 이후) 거부된다.
+     */
+    public TokenResponse issue(UserPrincipal principal, long familyId, int rotation, int tokenVersion) {
+        Instant now = clock.instant();
+        String accessToken = sign(TokenType.ACCESS, principal, familyId, 0, 0,
+                now.plus(properties.accessTokenTtl()));
+        String refreshToken = sign(TokenType.REFRESH, principal, familyId, rotation, tokenVersion,
+                now.plus(properties.refreshTokenTtl()));
+        return new TokenResponse("Bearer", accessToken, properties.accessTokenTtl().toSeconds(), refreshToken);
+    }
+
+    /**
+     * 서명/만료/종류가 모두 맞으면 claims를 돌려준다. 하나라도 틀리면 빈 값이다.
+     */
+    public Optional<TokenClaims> verify(String token, TokenType expectedType) {
+        Instant now = clock.instant();
+        TokenClaims cached = claimsCache.getIfPresent(token);
+        if (cached != null) {
+            return cached.type() == expectedType && !cached.isExpired(now) ? Optional.of(cached) : Optional.empty();
+        }
+
+        TokenClaims claims = parse(token);
+        if (claims == null || claims.isExpired(now)) {
+            return Optional.empty();
+        }
+        if (claims.type() == TokenType.ACCESS) {
+            claimsCache.put(token, claims);
+        }
+        return claims.type() == expectedType ? Optional.of(claims) : Optional.empty();
+    }
+
+    private String sign(TokenType type, UserPrincipal principal, long familyId, int rotation, int tokenVersion,
+                        Instant expiresAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(type.ordinal());
+            out.writeLong(principal.getId());
+            out.writeLong(expiresAt.getEpochSecond());
+            out.writeLong(familyId);
+            if (type == TokenType.ACCESS) {
+                out.writeUTF(principal.getUsername());
+                out.writeUTF(principal.getNickname());
+            } else {
+                out.writeInt(rotation);
+                out.writeInt(tokenVersion);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        String payload = ENCODER.encodeToString(bytes.toByteArray());
+        return payload + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    private TokenClaims parse(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return null;
+        }
+        String payload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, mac(payload))) {
+                return null;
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(DECODER.decode(payload)));
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+            TokenType type = TokenType.values()[in.readByte()];
+            long userId = in.readLong();
+            Instant expiresAt = Instant.ofEpochSecond(in.readLong());
+            long familyId = in.readLong();
+            if (type == TokenType.REFRESH) {
+                return new TokenClaims(type, userId, familyId, in.readInt(), in.readInt(), null, null, expiresAt);
+            }
+            return new TokenClaims(type, userId, familyId, 0, 0, in.readUTF(), in.readUTF(), expiresAt);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | IOException e) {
+            return null;
+        }
+    }
+
+    // Mac은 스레드 안전하지 않으므로 키를 초기화해 둔 원본을 복제해 쓴다
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Mac initMac(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토큰 모드는 노드/재시작과 무관하게 같은 키로 검증해야 하므로 설정된 비밀키가 필수다.
+     * HMAC-SHA256 키는 해시 출력 길이(32바이트) 이상이어야 한다. 세션 모드는 토큰을 쓰지 않으므로 임의 키로 둔다.
+     */
+    private static byte[] secretKey(AuthProperties properties) {
+        if (properties.mode() != AuthProperties.Mode.TOKEN) {
+            byte[] key = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(key);
+            return key;
+        }
+        if (!StringUtils.hasText(properties.tokenSecret())) {
+            throw new IllegalStateException(
+                    "sole.security.auth.token-secret must be set when sole.security.auth.mode=token");
+        }
+        byte[] key = properties.tokenSecret().getBytes(StandardCharsets.UTF_8);
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("sole.security.auth.token-secret must be at least %d bytes (was %d)"
+                    .formatted(MIN_SECRET_BYTES, key.length));
+        }
+        return key;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sole.global.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+
+/**
+ * sole.session.store=jdbc면 컨테이너 세션 대신 JdbcSessionRepository를 쓰는 SessionRepositoryFilter를 등록한다.
+ * 쿠키 이름은 기존과 같은 JSESSIONID를 유지해 로그아웃(SessionManager)/클라이언트를 바꾸지 않는다.
+ */
+@Configuration
+@EnableSpringHttpSession
+@ConditionalOnProperty(prefix = "sole.session", name = "store", havingValue = "jdbc")
+public class JdbcSessionConfig {
+
+    @Bean
+    public JdbcSessionRepository sessionRepository(JdbcTemplate jdbcTemplate, SessionStoreProperties properties) {
+        return new JdbcSessionRepository(jdbcTemplate, properties);
+    }
+
+    @Bean
+    public CookieSerializer cookieSerializer() {
+        DefaultCookieSerializer serializer = new DefaultCookieSerializer();
+        serializer.setCookieName("JSESSIONID");
+        serializer.setUseBase64Encoding(false);
+        return serializer;
+    }
+}
@@ -0,0 +1,307 @@
+package com.sole.global.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sole.global.jdbc.SqlStatistics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * sessions 테이블에 저장하는 공유 세션 저장소.
+ * <p>
+ * - 속성 쓰기: 요청 끝(save)에 속성/타임아웃이 바뀐 세션만 즉시 기록한다. 로그인/로그아웃처럼 드문 변경이라
+ *   다른 노드가 바로 다음 요청을 받아도 보인다.
+ * - 접근 시각(write-behind): 속성 변경 없는 요청은 DB에 쓰지 않고, 마지막 기록 후 touchInterval이 지난 경우에만
+ *   모아 두었다가 flushInterval마다 배치로 쓴다. 그래서 DB의 만료 시각은 최대 touchInterval + flushInterval만큼 이르다.
+ * - near-cache: 최근 세션을 노드 로컬에 nearCacheTtl 동안 두고 조회 시 DB를 건너뛴다. 다른 노드의 로그아웃이
+ *   이 노드에 반영되기까지 최대 nearCacheTtl이 걸린다.
+ * - 만료 정리: cleanupInterval마다 만료된 행을 cleanupBatchSize씩 나눠 지운다.
+ * - 요청 스레드에서 실행하는 세션 SQL은 요청별 SQL 통계(문장 예산)에 넣지 않는다.
+ */
+public class JdbcSessionRepository implements SessionRepository<JdbcSessionRepository.JdbcSession> {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcSessionRepository.class);
+
+    private static final String INSERT = """
+            INSERT INTO sessions (session_id, creation_time, last_access_time, max_inactive_seconds, expiry_time, attributes)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+    private static final String UPDATE = """
+            UPDATE sessions
+            SET session_id = ?, last_access_time = ?, max_inactive_seconds = ?, expiry_time = ?, attributes = ?
+            WHERE session_id = ?""";
+    private static final String TOUCH = """
+            UPDATE sessions
+            SET last_access_time = GREATEST(last_access_time, ?), expiry_time = GREATEST(expiry_time, ?)
+            WHERE session_id = ?""";
+    private static final String SELECT = """
+            SELECT creation_time, last_access_time, max_inactive_seconds, attributes
+            FROM sessions WHERE session_id = ? AND expiry_time >= ?""";
+    private static final String DELETE = "DELETE FROM sessions WHERE session_id = ?";
+    private static final String DELETE_EXPIRED = "DELETE FROM sessions WHERE expiry_time < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionStoreProperties properties;
+    private final Cache<String, Stored> nearCache;
+    private final Map<String, Touch> pendingTouches = new ConcurrentHashMap<>();
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer =
+            new DeserializingConverter(JdbcSessionRepository.class.getClassLoader());
+
+    public JdbcSessionRepository(JdbcTemplate jdbcTemplate, SessionStoreProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.nearCacheTtl())
+                .maximumSize(properties.nearCacheMaximumSize())
+                .build();
+    }
+
+    @Override
+    public JdbcSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(properties.timeout());
+        return new JdbcSession(session, null, true);
+    }
+
+    @Override
+    public void save(JdbcSession session) {
+        MapSession current = session.delegate;
+        Instant lastAccessed = current.getLastAccessedTime();
+        if (session.isNew) {
+            SqlStatistics.uncounted(() -> jdbcTemplate.update(INSERT, current.getId(),
+                    current.getCreationTime().toEpochMilli(), lastAccessed.toEpochMilli(),
+                    (int) current.getMaxInactiveInterval().toSeconds(), expiryMillis(current), serialize(current)));
+            session.markStored(lastAccessed);
+        } else if (session.changed || session.idChanged()) {
+            SqlStatistics.uncounted(() -> jdbcTemplate.update(UPDATE, current.getId(), lastAccessed.toEpochMilli(),
+                    (int) current.getMaxInactiveInterval().toSeconds(), expiryMillis(current),
+                    serialize(current), session.originalId));
+            if (session.idChanged()) {
+                nearCache.invalidate(session.originalId);
+                pendingTouches.remove(session.originalId);
+            }
+            pendingTouches.remove(current.getId());
+            session.markStored(lastAccessed);
+        } else if (!lastAccessed.isBefore(session.storedLastAccessed.plus(properties.touchInterval()))) {
+            pendingTouches.merge(current.getId(), new Touch(lastAccessed.toEpochMilli(), expiryMillis(current)),
+                    Touch::latest);
+            session.storedLastAccessed = lastAccessed;
+        }
+        nearCache.put(current.getId(), new Stored(new MapSession(current), session.storedLastAccessed));
+    }
+
+    @Override
+    public JdbcSession findById(String id) {
+        Stored stored = nearCache.getIfPresent(id);
+        if (stored == null) {
+            stored = load(id);
+            if (stored == null) {
+                return null;
+            }
+            nearCache.put(id, stored);
+        }
+        if (stored.session().isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return new JdbcSession(new MapSession(stored.session()), stored.lastAccessed(), false);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        nearCache.invalidate(id);
+        pendingTouches.remove(id);
+        SqlStatistics.uncounted(() -> jdbcTemplate.update(DELETE, id));
+    }
+
+    /**
+     * 모아 둔 접근 시각을 한 번의 배치로 기록한다. 다른 노드가 더 최근 값을 썼을 수 있으므로 큰 값만 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${sole.session.flush-interval:PT5S}")
+    public void flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>();
+        for (String id : Set.copyOf(pendingTouches.keySet())) {
+            Touch touch = pendingTouches.remove(id);
+            if (touch != null) {
+                batch.add(new Object[]{touch.lastAccessMillis(), touch.expiryMillis(), id});
+            }
+        }
+        jdbcTemplate.batchUpdate(TOUCH, batch);
+    }
+
+    /**
+     * 만료된 세션을 배치 단위로 지운다. 한 번에 큰 DELETE를 날려 잠금을 오래 잡지 않도록 LIMIT으로 나눈다.
+     */
+    @Scheduled(
+            fixedDelayString = "${sole.session.cleanup-interval:PT1M}",
+            initialDelayString = "${sole.session.cleanup-interval:PT1M}"
+    )
+    public void cleanUpExpiredSessions() {
+        flushTouches();
+        int total = deleteExpired(System.currentTimeMillis());
+        if (total > 0) {
+            log.info("expired sessions deleted count={}", total);
+        }
+    }
+
+    int deleteExpired(long now) {
+        int batchSize = properties.cleanupBatchSize();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    private Stored load(String id) {
+        List<Stored> rows = SqlStatistics.uncounted(() -> jdbcTemplate.query(SELECT, (rs, rowNum) -> {
+            MapSession session = new MapSession(id);
+            session.setCreationTime(Instant.ofEpochMilli(rs.getLong("creation_time")));
+            session.setLastAccessedTime(Instant.ofEpochMilli(rs.getLong("last_access_time")));
+            session.setMaxInactiveInterval(Duration.ofSeconds(rs.getInt("max_inactive_seconds")));
+            deserialize(rs.getBytes("attributes")).forEach(session::setAttribute);
+            return new Stored(session, session.getLastAccessedTime());
+        }, id, System.currentTimeMillis()));
+        return rows.isEmpty() ? null : rows.getFirst();
+    }
+
+    private byte[] serialize(MapSession session) {
+        Map<String, Object> attributes = new HashMap<>();
+        for (String name : session.getAttributeNames()) {
+            attributes.put(name, session.getAttribute(name));
+        }
+        return serializer.convert(attributes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> deserialize(byte[] bytes) {
+        return (Map<String, Object>) deserializer.convert(bytes);
+    }
+
+    private static long expiryMillis(MapSession session) {
+        return session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).toEpochMilli();
+    }
+
+    private record Stored(MapSession session, Instant lastAccessed) {
+    }
+
+    private record Touch(long lastAccessMillis, long expiryMillis) {
+
+        static Touch latest(Touch a, Touch b) {
+            return a.lastAccessMillis() >= b.lastAccessMillis() ? a : b;
+        }
+    }
+
+    /**
+     * 요청 동안 쓰는 세션 사본. 속성/타임아웃 변경과 ID 변경을 기록해 save에서 필요한 쓰기만 고른다.
+     */
+    public static final class JdbcSession implements Session {
+
+        private final MapSession delegate;
+        private boolean isNew;
+        private String originalId;
+        private Instant storedLastAccessed;
+        private boolean changed;
+
+        private JdbcSession(MapSession delegate, Instant storedLastAccessed, boolean isNew) {
+            this.delegate = delegate;
+            this.originalId = delegate.getId();
+            this.storedLastAccessed = storedLastAccessed;
+            this.isNew = isNew;
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+            changed = true;
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+            changed = true;
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+            changed = true;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+
+        private boolean idChanged() {
+            return !delegate.getId().equals(originalId);
+        }
+
+        private void markStored(Instant lastAccessed) {
+            isNew = false;
+            originalId = delegate.getId();
+            storedLastAccessed = lastAccessed;
+            changed = false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sole.global.session;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * HTTP 세션 저장소 설정 (sole.session.*).
+ * - MEMORY: 서블릿 컨테이너 기본 세션 (노드마다 따로 보관)
+ * - JDBC: sessions 테이블에 저장해 여러 노드가 세션을 공유한다
+ * nearCache*는 노드 로컬 캐시, touchInterval은 마지막 접근 시각을 DB에 다시 쓰는 최소 간격,
+ * flushInterval은 모아 둔 접근 시각을 배치로 쓰는 주기, cleanup*은 만료 세션 정리 주기/배치 크기다.
+ */
+@ConfigurationProperties(prefix = "sole.session")
+public record SessionStoreProperties(
+        @DefaultValue("MEMORY") Store store,
+        @DefaultValue("PT30M") Duration timeout,
+        @DefaultValue("PT5S") Duration nearCacheTtl,
+        @DefaultValue("10000") long nearCacheMaximumSize,
+        @DefaultValue("PT1M") Duration touchInterval,
+        @DefaultValue("PT5S") Duration flushInterval,
+        @DefaultValue("PT1M") Duration cleanupInterval,
+        @DefaultValue("500") int cleanupBatchSize
+) {
+
+    public enum Store {
+        MEMORY,
+        JDBC
+    }
+}
@@ -0,0 +1,14 @@
+package com.sole.global.thread;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 가상 스레드 관측 설정 (sole.threads.*).
+ */
+@ConfigurationProperties(prefix = "sole.threads")
+public record VirtualThreadProperties(
+        @DefaultValue("20ms") Duration pinnedThreshold
+) {
+}
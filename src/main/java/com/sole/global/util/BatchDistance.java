@@ -0,0 +1,90 @@
+package com.sole.global.util;
+
+/**
+ * 여러 후보 좌표를 한 번에 반경 필터링하는 배치 거리 계산 유틸.
+ * <p>
+ * 1단계(사전 검사): 삼각함수 없이 다항식만으로 haversine 값 a = sin²(Δφ/2) + cosφ₁cosφ₂·sin²(Δλ/2)의
+ * 하한을 구한다. |x| ≤ π/2에서 sin²x ≥ x²(1 - x²/3), cos(φ₁+d) ≥ cosφ₁(1 - d²/2) - |sinφ₁||d| 이므로
+ * 하한이 반경 기준값을 넘는 후보는 실제로도 반경 밖이다. 곱셈/덧셈뿐인 루프라 후보마다 haversine을 구하는 것보다 훨씬 싸다.
+ * <p>
+ * 2단계(정확 계산): 살아남은 후보만 haversine으로 정확한 거리를 구해 반경 안인지 최종 판단한다.
+ * 결과는 후보 순서를 유지하므로 호출한 쪽의 안정 정렬 결과가 기존과 같다.
+ */
+public final class BatchDistance {
+
+    // 하한 계산의 부동소수 반올림 오차를 흡수하는 여유. 기준보다 넉넉하게 통과시킬 뿐 결과에는 영향이 없다
+    private static final double ROUNDING_SLACK = 1e-15;
+
+    private BatchDistance() {
+    }
+
+    /**
+     * (lat, lng)에서 radiusKm 이내인 후보를 고른다.
+     *
+     * @param indexOut    반경 안 후보의 인덱스 (후보 순서 유지)
+     * @param distanceOut 같은 위치에 해당 후보까지의 거리(km)
+     * @return 반경 안 후보 수
+     */
+    public static int withinRadius(double lat, double lng, double radiusKm,
+                                   double[] lats, double[] lngs, int count,
+                                   int[] indexOut, double[] distanceOut) {
+        double earthRadiusKm = DistanceCalculator.earthRadiusKm();
+        double latRad = Math.toRadians(lat);
+        double cosLat = Math.cos(latRad);
+        double sinLat = Math.sin(latRad);
+
+        double halfAngle = radiusKm / earthRadiusKm / 2;
+        double threshold = halfAngle >= Math.PI / 2 ? 1.0 : Math.pow(Math.sin(halfAngle), 2);
+        double rejectAbove = threshold + ROUNDING_SLACK;
+
+        double[] lowerBounds = new double[count];
+        lowerBounds(lat, lng, cosLat, Math.abs(sinLat), lats, lngs, count, lowerBounds);
+
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            if (lowerBounds[i] > rejectAbove) {
+                continue;
+            }
+            double distanceKm = haversineKm(latRad, cosLat, lats[i], lngs[i], lng, earthRadiusKm);
+            if (distanceKm <= radiusKm) {
+                indexOut[found] = i;
+                distanceOut[found] = distanceKm;
+                found++;
+            }
+        }
+        return found;
+    }
+
+    // 후보마다 haversine 값 a의 하한을 out에 채운다
+    static void lowerBounds(double lat, double lng, double cosLat, double absSinLat,
+                            double[] lats, double[] lngs, int count, double[] out) {
+        for (int i = 0; i < count; i++) {
+            double dLat = Math.toRadians(lats[i] - lat);
+            double dLng = normalize(Math.toRadians(lngs[i] - lng));
+            double hLat2 = dLat * dLat / 4;
+            double hLng2 = dLng * dLng / 4;
+            double otherCosLat = Math.max(0.0, cosLat * (1 - dLat * dLat / 2) - absSinLat * Math.abs(dLat));
+            out[i] = hLat2 * (1 - hLat2 / 3) + cosLat * otherCosLat * hLng2 * (1 - hLng2 / 3);
+        }
+    }
+
+    private static double normalize(double dLngRad) {
+        if (dLngRad > Math.PI) {
+            return dLngRad - 2 * Math.PI;
+        }
+        if (dLngRad < -Math.PI) {
+            return dLngRad + 2 * Math.PI;
+        }
+        return dLngRad;
+    }
+
+    // DistanceCalculator.haversineKm과 같은 값. 기준점의 라디안/코사인을 재사용하고 atan2 대신 asin을 쓴다
+    private static double haversineKm(double latRad, double cosLat, double otherLat, double otherLng,
+                                      double lng, double earthRadiusKm) {
+        double otherLatRad = Math.toRadians(otherLat);
+        double sinHalfLat = Math.sin((otherLatRad - latRad) / 2);
+        double sinHalfLng = Math.sin(Math.toRadians(otherLng - lng) / 2);
+        double a = sinHalfLat * sinHalfLat + cosLat * Math.cos(otherLatRad) * sinHalfLng * sinHalfLng;
+        return 2 * earthRadiusKm * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
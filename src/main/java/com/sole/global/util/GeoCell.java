@@ -0,0 +1,61 @@
+package com.sole.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도를 고정 크기(0.01° ≒ 1.1km) 격자 셀로 나누는 유틸.
+ * 셀 ID는 위도 행 우선으로 부여하므로 같은 행에서 이웃한 경도 셀은 연속된 ID 구간이 된다.
+ * running_crews.geo_cell 컬럼과 V2 마이그레이션의 백필 식이 같은 규칙을 쓴다.
+ */
+public final class GeoCell {
+
+    public static final double CELL_SIZE_DEGREES = 0.01;
+    private static final int ROWS = 18_001;    // 위도 -90 ~ 90
+    private static final int COLUMNS = 36_001; // 경도 -180 ~ 180
+    private static final int MAX_RANGES = 64;
+
+    private GeoCell() {
+    }
+
+    public static long of(double latitude, double longitude) {
+        return id(row(latitude), column(longitude));
+    }
+
+    public static int row(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / CELL_SIZE_DEGREES);
+    }
+
+    public static int column(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / CELL_SIZE_DEGREES);
+    }
+
+    public static long id(int row, int column) {
+        return (long) row * COLUMNS + column;
+    }
+
+    /**
+     * 사각 범위를 덮는 셀 ID 구간 목록 (위도 행마다 한 구간).
+     * 경계 반올림 오차를 흡수하도록 상하좌우로 한 셀씩 여유를 둔다.
+     * 행이 너무 많으면 위도 띠 전체를 하나의 연속 구간으로 돌려준다.
+     */
+    public static List<Range> rangesCovering(double minLat, double maxLat, double minLng, double maxLng) {
+        int minRow = Math.max(0, row(minLat) - 1);
+        int maxRow = Math.min(ROWS - 1, row(maxLat) + 1);
+        int minColumn = Math.max(0, column(minLng) - 1);
+        int maxColumn = Math.min(COLUMNS - 1, column(maxLng) + 1);
+
+        if (maxRow - minRow + 1 > MAX_RANGES) {
+            return List.of(new Range(id(minRow, 0), id(maxRow, COLUMNS - 1)));
+        }
+
+        List<Range> ranges = new ArrayList<>(maxRow - minRow + 1);
+        for (int row = minRow; row <= maxRow; row++) {
+            ranges.add(new Range(id(row, minColumn), id(row, maxColumn)));
+        }
+        return ranges;
+    }
+
+    public record Range(long from, long to) {
+    }
+}
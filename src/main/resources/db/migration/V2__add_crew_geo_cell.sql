@@ -0,0 +1,12 @@
+-- Nearby search: precomputed GeoCell id (0.01 degree grid, latitude-row major)
+-- geo_cell = FLOOR((latitude + 90) / 0.01) * 36001 + FLOOR((longitude + 180) / 0.01)
+-- Must stay in sync with com.sole.global.util.GeoCell
+
+ALTER TABLE running_crews ADD COLUMN geo_cell BIGINT NULL AFTER longitude;
+
+UPDATE running_crews
+SET geo_cell = FLOOR((latitude + 90) / 0.01) * 36001 + FLOOR((longitude + 180) / 0.01);
+
+ALTER TABLE running_crews MODIFY COLUMN geo_cell BIGINT NOT NULL;
+
+CREATE INDEX IDX_crew_cell_meeting ON running_crews (geo_cell, meeting_time);
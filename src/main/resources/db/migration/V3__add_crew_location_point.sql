@@ -0,0 +1,8 @@
+-- Nearby search (SPATIAL backend): SRID 4326 POINT generated from latitude/longitude
+-- POINT(x, y) is stored as (longitude, latitude) internally; ST_SRID only tags the SRID
+
+ALTER TABLE running_crews
+    ADD COLUMN location POINT SRID 4326
+        GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL;
+
+CREATE SPATIAL INDEX SPX_crew_location ON running_crews (location);
@@ -0,0 +1,7 @@
+-- Denormalized participant counter (replaces the per-row COUNT subquery in list/nearby queries)
+-- Maintained by CrewService: +1 on join, -1 on leave, host counted on insert
+
+ALTER TABLE running_crews ADD COLUMN current_participants INT NOT NULL DEFAULT 0 AFTER max_participants;
+
+UPDATE running_crews c
+SET c.current_participants = (SELECT COUNT(*) FROM crew_members cm WHERE cm.crew_id = c.id);
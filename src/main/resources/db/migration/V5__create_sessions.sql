@@ -0,0 +1,13 @@
+-- Shared HTTP session store (JdbcSessionRepository)
+-- Times are epoch millis; attributes is the Java-serialized attribute map
+
+CREATE TABLE sessions (
+    session_id CHAR(36) NOT NULL PRIMARY KEY,
+    creation_time BIGINT NOT NULL,
+    last_access_time BIGINT NOT NULL,
+    max_inactive_seconds INT NOT NULL,
+    expiry_time BIGINT NOT NULL,
+    attributes MEDIUMBLOB NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX IDX_sessions_expiry_time ON sessions (expiry_time);
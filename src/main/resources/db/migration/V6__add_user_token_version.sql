@@ -0,0 +1,5 @@
+-- Per-user token version for token auth mode
+-- Refresh tokens carry the version they were issued with; refresh rotation, logout and password change bump it,
+-- so every refresh token issued before the bump is rejected
+
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0 AFTER preferred_level;
@@ -0,0 +1,14 @@
+-- Refresh token family per login (device)
+-- Each refresh rotates only its own family, so several devices of one user refresh independently.
+-- users.token_version stays as the per-user floor bumped by logout-all and password change
+
+CREATE TABLE refresh_token_families (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    rotation INT NOT NULL DEFAULT 0,
+    expires_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX IDX_refresh_family_user (user_id),
+    INDEX IDX_refresh_family_expires (expires_at),
+    CONSTRAINT FK_refresh_families_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,2 @@
+-- Nearby spatial index load/rebuild reads only upcoming crews (meeting_time >= now - grace period)
+CREATE INDEX IDX_crew_meeting ON running_crews (meeting_time);
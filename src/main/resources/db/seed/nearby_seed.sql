@@ -1,4 +1,6 @@
 -- Seed data for nearby crew performance baseline
+-- Small fixed sample around Seoul Station. For representative volumes use the synthetic dataset generator
+-- (sole.dataset.enabled=true, see com.sole.global.dataset.DatasetRunner).
 
 -- Region
 INSERT INTO regions (id, city, district)
@@ -21,7 +23,7 @@ ON DUPLICATE KEY UPDATE
 -- Running crews: 500 rows around Seoul Station (approx. ±4.4km)
 DELETE FROM running_crews WHERE id BETWEEN 2000 AND 2499;
 INSERT INTO running_crews
-    (id, title, description, host_id, region_id, meeting_time, place, latitude, longitude, max_participants, level, created_at)
+    (id, title, description, host_id, region_id, meeting_time, place, latitude, longitude, geo_cell, max_participants, level, created_at)
 SELECT
     2000 + (s1 + s2 + s3) AS id,
     CONCAT('크루', (s1 + s2 + s3)) AS title,
@@ -32,6 +34,7 @@ SELECT
     '서울역 인근' AS place,
     37.55 + (RAND(s1 + s2 + s3) - 0.5) * 0.08 AS latitude,
     126.97 + (RAND(s1 + s2 + s3 + 1) - 0.5) * 0.08 AS longitude,
+    0 AS geo_cell, -- 아래 UPDATE에서 위경도로 계산
     10 + ((s1 + s2 + s3) % 10) AS max_participants,
     CASE ((s1 + s2 + s3) % 3)
         WHEN 0 THEN 'BEGINNER'
@@ -51,3 +54,8 @@ CROSS JOIN (
     SELECT 0 AS s3 UNION ALL SELECT 100 UNION ALL SELECT 200 UNION ALL SELECT 300 UNION ALL SELECT 400
 ) t3;
 -- t1(10) * t2(10) * t3(5) = 500 rows (ids 2000~2499)
+
+-- GeoCell 계산 (V2__add_crew_geo_cell.sql과 동일한 식)
+UPDATE running_crews
+SET geo_cell = FLOOR((latitude + 90) / 0.01) * 36001 + FLOOR((longitude + 180) / 0.01)
+WHERE id BETWEEN 2000 AND 2499;
@@ -3,6 +3,8 @@ package com.sole.domain.auth.controller;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -10,12 +12,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sole.domain.auth.dto.LoginRequest;
+import com.sole.domain.auth.dto.RefreshTokenRequest;
 import com.sole.domain.auth.dto.SignUpRequest;
+import com.sole.domain.auth.dto.TokenResponse;
 import com.sole.domain.auth.service.AuthService;
 import com.sole.domain.auth.service.AuthService.LoginResult;
 import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.service.UserPrincipal;
 import com.sole.global.security.SessionManager;
+import com.sole.global.security.TokenClaims;
+import com.sole.global.security.TokenClaims.TokenType;
+import com.sole.global.security.TokenService;
 import com.sole.global.exception.GlobalExceptionHandler;
+import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +33,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -37,6 +48,9 @@ class AuthControllerTest {
     @Mock
     private SessionManager sessionManager;
 
+    @Mock
+    private TokenService tokenService;
+
     @InjectMocks
     private AuthController authController;
 
@@ -48,6 +62,7 @@ class AuthControllerTest {
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(authController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
                 .build();
     }
 
@@ -101,4 +116,65 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.data.email", is("user@example.com")))
                 .andExpect(jsonPath("$.data.nickname", is("닉네임")));
     }
+
+    @Test
+    @DisplayName("토큰 모드에서는 세션을 저장하지 않고 access/refresh 토큰을 응답한다")
+    void loginIssuesTokensInTokenMode() throws Exception {
+        Authentication authentication = org.mockito.Mockito.mock(Authentication.class);
+        LoginResult result = new LoginResult(authentication, 1L, "user@example.com", "닉네임");
+        when(authService.login(any(LoginRequest.class))).thenReturn(result);
+        when(tokenService.isEnabled()).thenReturn(true);
+        when(authService.issueTokens(result))
+                .thenReturn(new TokenResponse("Bearer", "access.sig", 900, "refresh.sig"));
+
+        LoginRequest request = new LoginRequest("user@example.com", "password123");
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.userId", is(1)))
+                .andExpect(jsonPath("$.data.token.tokenType", is("Bearer")))
+                .andExpect(jsonPath("$.data.token.accessToken", is("access.sig")))
+                .andExpect(jsonPath("$.data.token.refreshToken", is("refresh.sig")));
+        verify(sessionManager, never()).storeAuthentication(any(), any());
+    }
+
+    @Test
+    @DisplayName("세션 모드에서는 refresh 경로가 없는 것처럼 404를 반환한다")
+    void refreshNotFoundInSessionMode() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh.sig"))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code", is("RESOURCE_NOT_FOUND")));
+        verify(authService, never()).refresh(any());
+    }
+
+    @Test
+    @DisplayName("토큰 모드 로그아웃은 access 토큰이 속한 기기(계열)의 refresh 토큰만 무효화한다")
+    void logoutRevokesOwnFamilyInTokenMode() throws Exception {
+        UserPrincipal principal = UserPrincipal.of(1L, "user@example.com", "닉네임");
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        authentication.setDetails(new TokenClaims(TokenType.ACCESS, 1L, 7L, 0, 0,
+                "user@example.com", "닉네임", Instant.MAX));
+        when(tokenService.isEnabled()).thenReturn(true);
+
+        mockMvc.perform(post("/api/v1/auth/logout").principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)));
+        verify(authService).logout(1L, 7L);
+        verify(authService, never()).logoutAll(any());
+        verify(sessionManager, never()).clearSession(any(), any());
+    }
+
+    @Test
+    @DisplayName("세션 모드에서는 전체 로그아웃 경로가 없는 것처럼 404를 반환한다")
+    void logoutAllNotFoundInSessionMode() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/logout-all"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code", is("RESOURCE_NOT_FOUND")));
+        verify(authService, never()).logoutAll(any());
+    }
 }
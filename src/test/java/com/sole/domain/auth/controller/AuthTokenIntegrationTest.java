@@ -0,0 +1,105 @@
+package com.sole.domain.auth.controller;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sole.domain.auth.dto.LoginRequest;
+import com.sole.domain.auth.dto.RefreshTokenRequest;
+import com.sole.domain.auth.dto.SignUpRequest;
+import com.sole.domain.user.entity.PreferredLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = {
+        "sole.security.auth.mode=token",
+        "sole.security.auth.token-secret=integration-test-secret-0123456789abcdef"
+})
+@ActiveProfiles("test")
+@Transactional
+class AuthTokenIntegrationTest {
+
+    private static final String EMAIL = "devices@example.com";
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private ObjectMapper objectMapper;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new SignUpRequest(EMAIL, PASSWORD, "두기기", null, PreferredLevel.BEGINNER))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("두 기기에서 로그인하면 각자 refresh 토큰을 회전해도 서로의 토큰이 무효가 되지 않는다")
+    void twoDevicesRefreshIndependently() throws Exception {
+        JsonNode phone = login();
+        JsonNode laptop = login();
+
+        JsonNode phoneRotated = tokens(refresh(phone.path("refreshToken").asText()).andExpect(status().isOk()));
+        JsonNode laptopRotated = tokens(refresh(laptop.path("refreshToken").asText()).andExpect(status().isOk()));
+
+        // 한 번 쓴 refresh 토큰은 다시 쓸 수 없지만, 회전된 새 토큰은 계속 쓸 수 있다
+        refresh(phone.path("refreshToken").asText()).andExpect(status().isUnauthorized());
+        phoneRotated = tokens(refresh(phoneRotated.path("refreshToken").asText()).andExpect(status().isOk()));
+        laptopRotated = tokens(refresh(laptopRotated.path("refreshToken").asText()).andExpect(status().isOk()));
+
+        // 한 기기의 로그아웃은 그 기기의 토큰만 끊는다
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + phoneRotated.path("accessToken").asText()))
+                .andExpect(status().isOk());
+        refresh(phoneRotated.path("refreshToken").asText()).andExpect(status().isUnauthorized());
+        laptopRotated = tokens(refresh(laptopRotated.path("refreshToken").asText()).andExpect(status().isOk()));
+
+        // 전체 로그아웃은 남은 모든 기기의 토큰을 끊는다
+        mockMvc.perform(post("/api/v1/auth/logout-all")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + laptopRotated.path("accessToken").asText()))
+                .andExpect(status().isOk());
+        refresh(laptopRotated.path("refreshToken").asText())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("AUTHENTICATION_FAILED"));
+    }
+
+    private JsonNode login() throws Exception {
+        return objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new LoginRequest(EMAIL, PASSWORD))))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString())
+                .path("data").path("token");
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+    }
+
+    private JsonNode tokens(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString()).path("data");
+    }
+}
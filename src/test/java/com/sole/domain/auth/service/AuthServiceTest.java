@@ -3,10 +3,15 @@ package com.sole.domain.auth.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sole.domain.auth.dto.SignUpRequest;
+import com.sole.domain.auth.repository.RefreshTokenFamilyRepository;
 import com.sole.domain.region.entity.Region;
 import com.sole.domain.region.repository.RegionRepository;
 import com.sole.domain.user.entity.PreferredLevel;
@@ -14,11 +19,19 @@ import com.sole.domain.user.entity.User;
 import com.sole.domain.user.repository.UserRepository;
 import com.sole.global.common.ErrorCode;
 import com.sole.global.exception.BusinessException;
+import com.sole.global.security.AuthProperties;
+import com.sole.global.security.TokenClaims;
+import com.sole.global.security.TokenClaims.TokenType;
+import com.sole.global.security.TokenService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -39,6 +52,16 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+
+    @Spy
+    private AuthProperties authProperties = new AuthProperties(AuthProperties.Mode.TOKEN, null,
+            Duration.ofMinutes(15), Duration.ofDays(14), 100);
+
     @InjectMocks
     private AuthService authService;
 
@@ -91,4 +114,59 @@ class AuthServiceTest {
         assertThat(userId).isEqualTo(10L);
         verify(userRepository).save(any(User.class));
     }
+
+    @Test
+    @DisplayName("이미 회전됐거나 로그아웃한 계열의 refresh 토큰이면 새 토큰을 발급하지 않는다")
+    void refreshRejectsStaleRotation() {
+        when(tokenService.verify("refresh.sig", TokenType.REFRESH)).thenReturn(Optional.of(refreshClaims(2, 0)));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user()));
+        when(refreshTokenFamilyRepository.rotate(eq(7L), eq(1L), eq(2), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> authService.refresh("refresh.sig"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTHENTICATION_FAILED);
+        verify(tokenService, never()).issue(any(), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃/비밀번호 변경으로 사용자의 tokenVersion이 오르면 계열을 회전하지 않고 거부한다")
+    void refreshRejectsStaleUserVersion() {
+        User user = user();
+        ReflectionTestUtils.setField(user, "tokenVersion", 1);
+        when(tokenService.verify("refresh.sig", TokenType.REFRESH)).thenReturn(Optional.of(refreshClaims(2, 0)));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> authService.refresh("refresh.sig"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AUTHENTICATION_FAILED);
+        verify(refreshTokenFamilyRepository, never()).rotate(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("refresh에 성공하면 계열의 rotation을 올리고 올린 값으로 새 토큰을 발급한다")
+    void refreshRotatesFamily() {
+        when(tokenService.verify("refresh.sig", TokenType.REFRESH)).thenReturn(Optional.of(refreshClaims(2, 0)));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user()));
+        when(refreshTokenFamilyRepository.rotate(eq(7L), eq(1L), eq(2), any())).thenReturn(1);
+
+        authService.refresh("refresh.sig");
+
+        verify(tokenService).issue(any(), eq(7L), eq(3), eq(0));
+    }
+
+    private static TokenClaims refreshClaims(int rotation, int tokenVersion) {
+        return new TokenClaims(TokenType.REFRESH, 1L, 7L, rotation, tokenVersion, null, null, Instant.MAX);
+    }
+
+    private static User user() {
+        User user = User.builder()
+                .email("user@example.com")
+                .password("encodedPw")
+                .nickname("닉네임")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
 }
@@ -1,13 +1,18 @@
 package com.sole.domain.crew.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -17,41 +22,57 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.sole.domain.crew.dto.CrewCreateRequest;
 import com.sole.domain.crew.dto.CrewDetailResponse;
 import com.sole.domain.crew.dto.CrewDetailResponse.MemberDto;
+import com.sole.domain.crew.dto.CrewImportResponse;
+import com.sole.domain.crew.dto.CrewImportResponse.RowError;
 import com.sole.domain.crew.dto.CrewSummaryResponse;
 import com.sole.domain.crew.dto.MeetingDateFilter;
 import com.sole.domain.crew.entity.CrewRole;
+import com.sole.domain.crew.service.CrewImportProperties;
+import com.sole.domain.crew.service.CrewImportService;
 import com.sole.domain.crew.service.CrewService;
+import com.sole.domain.crew.service.CrewStreamLimiter;
+import com.sole.domain.crew.service.CrewStreamProperties;
 import com.sole.domain.user.entity.PreferredLevel;
 import com.sole.domain.user.entity.User;
 import com.sole.domain.user.service.UserPrincipal;
+import com.sole.global.common.CursorResponse;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
 import com.sole.global.exception.GlobalExceptionHandler;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
 
 @ExtendWith(MockitoExtension.class)
 class CrewControllerTest {
 
     @Mock
     private CrewService crewService;
-
-    @InjectMocks
-    private CrewController crewController;
+    @Mock
+    private CrewImportService crewImportService;
 
     private MockMvc mockMvc;
+    private CrewStreamLimiter crewStreamLimiter;
 
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
@@ -59,11 +80,19 @@ class CrewControllerTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(crewController)
+        crewStreamLimiter = new CrewStreamLimiter(new CrewStreamProperties(100, Duration.ofSeconds(30), 1));
+        mockMvc = mockMvc(new CrewImportProperties(true, 1000, 100));
+    }
+
+    private MockMvc mockMvc(CrewImportProperties importProperties) {
+        CrewController crewController = new CrewController(crewService, crewImportService,
+                importProperties, crewStreamLimiter, JsonMapper.builder().build());
+        return MockMvcBuilders.standaloneSetup(crewController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setCustomArgumentResolvers(
                         new AuthenticationPrincipalArgumentResolver(),
-                        new org.springframework.data.web.PageableHandlerMethodArgumentResolver()
+                        new org.springframework.data.web.PageableHandlerMethodArgumentResolver(),
+                        new org.springframework.data.web.SortHandlerMethodArgumentResolver()
                 )
                 .build();
     }
@@ -94,6 +123,66 @@ class CrewControllerTest {
                 .andExpect(jsonPath("$.data", is(50)));
     }
 
+    @Test
+    @DisplayName("일괄 등록이 꺼져 있으면 JSON과 CSV 모두 본문을 읽지 않고 403으로 거절한다")
+    void importCrewsRejectedWhenDisabled() throws Exception {
+        UserPrincipal principal = testPrincipal(1L);
+        authenticate(principal);
+        MockMvc disabled = mockMvc(new CrewImportProperties(false, 1000, 100));
+
+        disabled.perform(post("/api/v1/crews/import")
+                        .with(user(principal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code", is("ACCESS_DENIED")));
+        disabled.perform(post("/api/v1/crews/import")
+                        .with(user(principal))
+                        .contentType("text/csv")
+                        .content("title\r\n"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code", is("ACCESS_DENIED")));
+        verifyNoInteractions(crewImportService);
+    }
+
+    @Test
+    @DisplayName("CSV 일괄 등록은 헤더 순서와 따옴표를 처리하고, 읽지 못한 행은 사유와 함께 넘긴다")
+    @SuppressWarnings("unchecked")
+    void importCrewsFromCsv() throws Exception {
+        UserPrincipal principal = testPrincipal(1L);
+        authenticate(principal);
+        String csv = """
+                level,title,description,regionId,meetingTime,place,latitude,longitude,maxParticipants\r
+                beginner,"한강, 아침",\"\"\"5km\"\" 코스\",3,2030-01-01T07:00,반포,37.51,126.99,10\r
+                BEGINNER,저녁,,3,내일,잠실,37.51,127.08,8\r
+                """;
+        when(crewImportService.importCrews(eq(1L), any(), any()))
+                .thenReturn(new CrewImportResponse(2, 1, List.of(new RowError(2, "meetingTime"))));
+
+        mockMvc.perform(post("/api/v1/crews/import")
+                        .with(user(principal))
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported", is(1)));
+
+        ArgumentCaptor<List<CrewCreateRequest>> rows = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<RowError>> rejected = ArgumentCaptor.forClass(List.class);
+        verify(crewImportService).importCrews(eq(1L), rows.capture(), rejected.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        CrewCreateRequest first = rows.getValue().get(0);
+        assertThat(first.title()).isEqualTo("한강, 아침");
+        assertThat(first.description()).isEqualTo("\"5km\" 코스");
+        assertThat(first.meetingTime()).isEqualTo(LocalDateTime.of(2030, 1, 1, 7, 0));
+        assertThat(first.level()).isEqualTo(PreferredLevel.BEGINNER);
+        assertThat(rows.getValue().get(1)).isNull();
+        assertThat(rejected.getValue()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.row()).isEqualTo(2);
+                    assertThat(error.message()).startsWith("meetingTime:");
+                });
+    }
+
     @Test
     @DisplayName("모임 목록을 조회하면 페이지 형태의 데이터를 반환한다")
     void getCrews() throws Exception {
@@ -119,6 +208,157 @@ class CrewControllerTest {
                 .andExpect(jsonPath("$.data.content[0].title", is("저녁 러닝")));
     }
 
+    @Test
+    @DisplayName("NDJSON을 요청하면 봉투 없이 모임을 한 줄에 하나씩 내려준다")
+    @SuppressWarnings("unchecked")
+    void streamCrewsAsNdjson() throws Exception {
+        CrewSummaryResponse first = new CrewSummaryResponse(
+                1L, "첫째", 10L, "서울", "중구", LocalDateTime.now(), "시청", 1.0, 2.0, 5, 1, PreferredLevel.BEGINNER);
+        CrewSummaryResponse second = new CrewSummaryResponse(
+                2L, "둘째", 10L, "서울", "중구", LocalDateTime.now(), "시청", 1.0, 2.0, 5, 1, PreferredLevel.BEGINNER);
+        doAnswer(invocation -> {
+            Consumer<CrewSummaryResponse> sink = invocation.getArgument(2);
+            sink.accept(first);
+            sink.accept(second);
+            return null;
+        }).when(crewService).streamCrews(any(), any(), any(Consumer.class));
+
+        String body = mockMvc.perform(get("/api/v1/crews")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body.split("\n"))
+                .hasSize(2)
+                .satisfiesExactly(
+                        line -> assertThat(line).startsWith("{\"id\":1,").contains("\"title\":\"첫째\""),
+                        line -> assertThat(line).startsWith("{\"id\":2,"));
+        assertThat(body).endsWith("\n");
+    }
+
+    @Test
+    @DisplayName("주변 검색 반경이 상한(50km)을 넘으면 검색 없이 400을 반환한다")
+    void nearbyRejectsRadiusAboveLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/crews/nearby")
+                        .param("latitude", "37.5547")
+                        .param("longitude", "126.9707")
+                        .param("radiusKm", "50.1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("INVALID_INPUT_VALUE")));
+        verifyNoInteractions(crewService);
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림이 첫 줄 전에 실패하면 일반 오류 응답을 준다")
+    @SuppressWarnings("unchecked")
+    void streamCrewsFailsBeforeFirstLine() throws Exception {
+        doThrow(new BusinessException(ErrorCode.INVALID_INPUT_VALUE))
+                .when(crewService).streamCrews(any(), any(), any(Consumer.class));
+
+        mockMvc.perform(get("/api/v1/crews")
+                        .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                        .param("sort", "title"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success", is(false)));
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림이 한도에 걸려 중단되면 마지막 줄에 그 오류 코드를 남긴다")
+    @SuppressWarnings("unchecked")
+    void streamCrewsWritesTrailingBusinessError() throws Exception {
+        CrewSummaryResponse first = new CrewSummaryResponse(
+                1L, "첫째", 10L, "서울", "중구", LocalDateTime.now(), "시청", 1.0, 2.0, 5, 1, PreferredLevel.BEGINNER);
+        doAnswer(invocation -> {
+            Consumer<CrewSummaryResponse> sink = invocation.getArgument(2);
+            sink.accept(first);
+            throw new BusinessException(ErrorCode.CREW_STREAM_LIMIT_EXCEEDED);
+        }).when(crewService).streamCrews(any(), any(), any(Consumer.class));
+
+        String body = mockMvc.perform(get("/api/v1/crews")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body.split("\n"))
+                .hasSize(2)
+                .satisfiesExactly(
+                        line -> assertThat(line).startsWith("{\"id\":1,"),
+                        line -> assertThat(line).contains("\"code\":\"CREW_STREAM_LIMIT_EXCEEDED\""));
+    }
+
+    @Test
+    @DisplayName("동시 스트림 한도를 넘으면 DB를 건드리지 않고 503으로 거절한다")
+    void streamCrewsRejectedWhenLimiterIsFull() throws Exception {
+        crewStreamLimiter.acquire(); // 한도 1개를 다른 스트림이 쓰고 있다
+        try {
+            mockMvc.perform(get("/api/v1/crews")
+                            .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code", is("SERVER_BUSY")));
+        } finally {
+            crewStreamLimiter.release();
+        }
+        verifyNoInteractions(crewService);
+    }
+
+    @Test
+    @DisplayName("건수 없는 목록 조회는 hasNext만 반환한다")
+    void getCrewSlice() throws Exception {
+        CrewSummaryResponse summary = new CrewSummaryResponse(
+                3L,
+                "점심 러닝",
+                10L,
+                "서울",
+                "중구",
+                LocalDateTime.now(),
+                "시청",
+                1.0,
+                2.0,
+                5,
+                1,
+                PreferredLevel.BEGINNER
+        );
+        when(crewService.getCrewSlice(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get("/api/v1/crews/slice")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title", is("점심 러닝")))
+                .andExpect(jsonPath("$.data.hasNext", is(true)))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("커서 기반 목록은 다음 커서를 함께 반환한다")
+    void getCrewsByCursor() throws Exception {
+        CrewSummaryResponse summary = new CrewSummaryResponse(
+                2L,
+                "새벽 러닝",
+                10L,
+                "서울",
+                "송파구",
+                LocalDateTime.now(),
+                "석촌호수",
+                1.0,
+                2.0,
+                5,
+                1,
+                PreferredLevel.BEGINNER
+        );
+        when(crewService.getCrewsByCursor(any(), eq("abc"), eq(1)))
+                .thenReturn(CursorResponse.of(List.of(summary), 1, "next"));
+
+        mockMvc.perform(get("/api/v1/crews/scroll")
+                        .param("cursor", "abc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title", is("새벽 러닝")))
+                .andExpect(jsonPath("$.data.nextCursor", is("next")))
+                .andExpect(jsonPath("$.data.hasNext", is(true)));
+    }
+
     @Test
     @DisplayName("모임 상세 정보를 반환한다")
     void getCrewDetail() throws Exception {
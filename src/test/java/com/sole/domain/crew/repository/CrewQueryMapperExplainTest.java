@@ -0,0 +1,151 @@
+package com.sole.domain.crew.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.entity.RunningCrew;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.util.GeoCell;
+import com.sole.support.IntegrationTestBase;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 매퍼가 만든 SQL을 MySQL EXPLAIN으로 확인해 조건 조합별로 의도한 인덱스를 타는지 본다.
+ */
+@Transactional
+class CrewQueryMapperExplainTest extends IntegrationTestBase {
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RunningCrewRepository runningCrewRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+
+    private Region seoul;
+
+    @BeforeEach
+    void setUp() {
+        seoul = regionRepository.save(new Region("서울", "서대문구"));
+        Region busan = regionRepository.save(new Region("부산", "수영구"));
+        User host = userRepository.save(User.builder()
+                .email("explain-host@example.com")
+                .password("pw")
+                .nickname("호스트")
+                .region(seoul)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build());
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 40; i++) {
+            Region region = i % 4 == 0 ? seoul : busan;
+            runningCrewRepository.save(RunningCrew.builder()
+                    .title("모임" + i)
+                    .description("설명")
+                    .host(host)
+                    .region(region)
+                    .meetingTime(base.plusHours(i))
+                    .place("장소")
+                    .latitude(35.0 + i * 0.05)
+                    .longitude(127.0 + i * 0.05)
+                    .maxParticipants(10)
+                    .level(PreferredLevel.values()[i % 3])
+                    .build());
+        }
+        runningCrewRepository.flush();
+    }
+
+    @Test
+    @DisplayName("지역 + 기간 조건은 (region_id, meeting_time) 인덱스를 탄다")
+    void regionAndDateUsesRegionMeetingIndex() {
+        Map<String, Object> params = searchParams();
+        params.put("regionId", seoul.getId());
+        params.put("start", LocalDateTime.now());
+
+        Map<String, Object> crews = rowFor(explain("search", params), "c");
+
+        assertThat(crews.get("key")).isEqualTo("IDX_crew_region_meeting");
+    }
+
+    @Test
+    @DisplayName("지역 조건이 없으면 건수 쿼리에 regions 조인이 없다")
+    void countWithoutRegionSkipsJoin() {
+        Map<String, Object> params = searchParams();
+        params.put("level", PreferredLevel.BEGINNER);
+
+        List<Map<String, Object>> plan = explain("count", params);
+
+        assertThat(plan).extracting(row -> row.get("table")).containsExactly("c");
+    }
+
+    @Test
+    @DisplayName("바운딩 박스 조회는 GeoCell 구간으로 (geo_cell, meeting_time) 인덱스를 쓸 수 있다")
+    void boundingBoxCanUseCellIndex() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("ranges", GeoCell.rangesCovering(35.4, 35.6, 127.4, 127.6));
+        params.put("minLat", 35.4);
+        params.put("maxLat", 35.6);
+        params.put("minLng", 127.4);
+        params.put("maxLng", 127.6);
+        params.put("level", null);
+        params.put("start", null);
+        params.put("end", null);
+
+        Map<String, Object> crews = rowFor(explain("searchWithinBoundingBox", params), "c");
+
+        assertThat((String) crews.get("possible_keys")).contains("IDX_crew_cell_meeting");
+    }
+
+    private Map<String, Object> searchParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("regionId", null);
+        params.put("level", null);
+        params.put("start", null);
+        params.put("end", null);
+        params.put("orderBy", "c.meeting_time ASC, c.id ASC");
+        params.put("offset", 0L);
+        params.put("limit", 11);
+        return params;
+    }
+
+    private List<Map<String, Object>> explain(String statement, Map<String, Object> params) {
+        MappedStatement mappedStatement = sqlSessionFactory.getConfiguration()
+                .getMappedStatement(CrewQueryMapper.class.getName() + "." + statement);
+        BoundSql boundSql = mappedStatement.getBoundSql(params);
+        Object[] args = boundSql.getParameterMappings().stream()
+                .map(mapping -> {
+                    String property = mapping.getProperty();
+                    Object value = boundSql.hasAdditionalParameter(property)
+                            ? boundSql.getAdditionalParameter(property)
+                            : params.get(property);
+                    return value instanceof Enum<?> e ? e.name() : value;
+                })
+                .toArray();
+        return jdbcTemplate.queryForList("EXPLAIN " + boundSql.getSql(), args);
+    }
+
+    private Map<String, Object> rowFor(List<Map<String, Object>> plan, String table) {
+        return plan.stream()
+                .filter(row -> table.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -2,6 +2,8 @@ package com.sole.domain.crew.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sole.domain.crew.entity.CrewMember;
+import com.sole.domain.crew.entity.CrewRole;
 import com.sole.domain.crew.entity.RunningCrew;
 import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
 import com.sole.domain.region.entity.Region;
@@ -9,14 +11,16 @@ import com.sole.domain.region.repository.RegionRepository;
 import com.sole.domain.user.entity.PreferredLevel;
 import com.sole.domain.user.entity.User;
 import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.util.GeoCell;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +32,9 @@ class RunningCrewRepositoryTest {
     @Autowired
     private RunningCrewRepository runningCrewRepository;
 
+    @Autowired
+    private CrewQueryMapper crewQueryMapper;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -79,16 +86,19 @@ class RunningCrewRepositoryTest {
                 .build();
         runningCrewRepository.save(crew1);
         runningCrewRepository.save(crew2);
+        runningCrewRepository.flush(); // 매퍼는 JDBC로 직접 읽으므로 먼저 반영한다
 
-        Page<CrewSummaryProjection> page = runningCrewRepository.search(
+        List<CrewSummaryProjection> page = crewQueryMapper.search(
                 seoul.getId(),
                 PreferredLevel.INTERMEDIATE,
                 now.plusDays(2),
                 now.plusDays(4),
-                PageRequest.of(0, 10)
+                "c.meeting_time ASC, c.id ASC",
+                0,
+                10
         );
 
-        assertThat(page.getContent())
+        assertThat(page)
                 .hasSize(1)
                 .allSatisfy(summary -> {
                     assertThat(summary.title()).isEqualTo("저녁 달리기");
@@ -96,4 +106,117 @@ class RunningCrewRepositoryTest {
                     assertThat(summary.level()).isEqualTo(PreferredLevel.INTERMEDIATE);
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("바운딩 박스 조회는 셀 구간으로 찾고 위경도로 다시 거른다")
+    void searchWithinBoundingBoxUsesCells() {
+        LocalDateTime meeting = LocalDateTime.now().plusDays(1);
+        RunningCrew inside = runningCrewRepository.save(crewAt("시청 앞", 37.5665, 126.9780, meeting));
+        RunningCrew moved = runningCrewRepository.save(crewAt("이동 예정", 37.5700, 126.9800, meeting));
+        runningCrewRepository.save(crewAt("먼 곳", 37.6500, 126.9780, meeting));
+
+        moved.update(moved.getTitle(), moved.getDescription(), seoul, meeting, moved.getPlace(),
+                37.7000, 127.1000, moved.getMaxParticipants(), moved.getLevel());
+        runningCrewRepository.flush();
+
+        List<CrewSummaryProjection> result = crewQueryMapper.searchWithinBoundingBox(
+                GeoCell.rangesCovering(37.55, 37.58, 126.96, 126.99),
+                37.55, 37.58, 126.96, 126.99,
+                null, null, null
+        );
+
+        assertThat(result).extracting(CrewSummaryProjection::id).containsExactly(inside.getId());
+        assertThat(moved.getGeoCell()).isEqualTo(GeoCell.of(37.7000, 127.1000));
+    }
+
+    @Test
+    @DisplayName("참여 인원은 증감 쿼리로 갱신되고 목록 조회는 그 컬럼을 그대로 읽는다")
+    void participantCounterIsReadByProjection() {
+        RunningCrew crew = crewAt("인원 집계", 37.5665, 126.9780, LocalDateTime.now().plusDays(1));
+        crew.addMember(CrewMember.builder()
+                .user(host)
+                .role(CrewRole.HOST)
+                .joinedAt(LocalDateTime.now())
+                .build());
+        runningCrewRepository.saveAndFlush(crew);
+
+        runningCrewRepository.reserveSeat(crew.getId());
+        runningCrewRepository.reserveSeat(crew.getId());
+        runningCrewRepository.releaseSeat(crew.getId());
+
+        List<CrewSummaryProjection> page = crewQueryMapper.search(
+                seoul.getId(), null, null, null, "c.id ASC", 0, 10);
+        assertThat(page)
+                .extracting(CrewSummaryProjection::currentParticipants)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("지역 필터가 없으면 조건에 맞는 모임만 세고, 지역 필터가 있으면 해당 지역만 센다")
+    void countEmitsOnlySuppliedFilters() {
+        Region busan = regionRepository.save(new Region("부산", "해운대구"));
+        LocalDateTime meeting = LocalDateTime.now().plusDays(1);
+        runningCrewRepository.save(crewAt("서울 모임", 37.5, 127.0, meeting));
+        RunningCrew other = crewAt("부산 모임", 35.16, 129.16, meeting);
+        other.update(other.getTitle(), other.getDescription(), busan, meeting, other.getPlace(),
+                other.getLatitude(), other.getLongitude(), other.getMaxParticipants(), PreferredLevel.ADVANCED);
+        runningCrewRepository.save(other);
+        runningCrewRepository.flush();
+
+        assertThat(crewQueryMapper.count(null, PreferredLevel.ADVANCED, null, null)).isEqualTo(1L);
+        assertThat(crewQueryMapper.count(seoul.getId(), null, meeting.minusHours(1), null)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("키셋 조회는 같은 모임 시각 안에서도 id 순서로 빠짐없이 이어진다")
+    void scrollContinuesAfterCursor() {
+        LocalDateTime sameTime = LocalDateTime.now().plusDays(1).withNano(0);
+        RunningCrew first = runningCrewRepository.save(crewAt("첫째", 37.5, 127.0, sameTime));
+        RunningCrew second = runningCrewRepository.save(crewAt("둘째", 37.5, 127.0, sameTime));
+        RunningCrew third = runningCrewRepository.save(crewAt("셋째", 37.5, 127.0, sameTime.plusHours(1)));
+
+        List<CrewSummaryProjection> firstPage = runningCrewRepository.scroll(
+                seoul.getId(), null, null, null, null, null, 2);
+        CrewSummaryProjection last = firstPage.get(firstPage.size() - 1);
+        List<CrewSummaryProjection> secondPage = runningCrewRepository.scroll(
+                seoul.getId(), null, null, null, last.meetingTime(), last.id(), 2);
+
+        assertThat(firstPage).extracting(CrewSummaryProjection::id)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(CrewSummaryProjection::id)
+                .containsExactly(third.getId());
+    }
+
+    @Test
+    @DisplayName("스트림 조회는 조건에 맞는 모임을 정렬 순서대로 커서에서 한 행씩 돌려준다")
+    void streamReadsRowsInOrder() throws Exception {
+        LocalDateTime meeting = LocalDateTime.now().plusDays(1).withNano(0);
+        RunningCrew later = runningCrewRepository.save(crewAt("나중", 37.5, 127.0, meeting.plusHours(2)));
+        RunningCrew earlier = runningCrewRepository.save(crewAt("먼저", 37.5, 127.0, meeting));
+        runningCrewRepository.flush();
+
+        List<Long> ids = new ArrayList<>();
+        try (Cursor<CrewSummaryProjection> cursor = crewQueryMapper.stream(
+                seoul.getId(), null, null, null, "c.meeting_time ASC, c.id ASC", 10)) {
+            cursor.forEach(row -> ids.add(row.id()));
+            assertThat(cursor.isConsumed()).isTrue();
+        }
+
+        assertThat(ids).containsExactly(earlier.getId(), later.getId());
+    }
+
+    private RunningCrew crewAt(String title, double latitude, double longitude, LocalDateTime meetingTime) {
+        return RunningCrew.builder()
+                .title(title)
+                .description("설명")
+                .host(host)
+                .region(seoul)
+                .meetingTime(meetingTime)
+                .place("장소")
+                .latitude(latitude)
+                .longitude(longitude)
+                .maxParticipants(10)
+                .level(PreferredLevel.BEGINNER)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.dto.CrewSearchCondition;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CrewCountCacheTest {
+
+    private final CrewCountCache cache = new CrewCountCache(new CrewListProperties(Duration.ofSeconds(30), 100));
+    private final CrewSearchCondition condition = new CrewSearchCondition(1L, null, null);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 비우면 커밋 전에 다시 채워진 건수도 완료 시점에 한 번 더 비운다")
+    void invalidatesAgainAfterCompletion() {
+        AtomicInteger counts = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAll();
+        cache.get(condition, counts::incrementAndGet); // 커밋 전 다른 요청이 옛 건수로 채운 상황
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(cache.get(condition, counts::incrementAndGet)).isEqualTo(2L);
+    }
+}
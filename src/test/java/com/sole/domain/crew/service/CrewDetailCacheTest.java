@@ -0,0 +1,86 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sole.domain.crew.dto.CrewDetailResponse;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CrewDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CrewDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CrewDetailCache(new CrewDetailCacheProperties(Duration.ofMinutes(5), 100), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 모임은 한 번만 읽고 적중/미스를 메트릭으로 남긴다")
+    void loadsOnceAndRecordsMetrics() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> detail(id, loads));
+        cache.get(1L, id -> detail(id, loads));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CrewDetailCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CrewDetailCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 비우면 커밋 전에 다시 채워진 값도 완료 시점에 한 번 더 비운다")
+    void evictsAgainAfterCompletion() {
+        AtomicInteger loads = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(1L);
+        cache.get(1L, id -> detail(id, loads)); // 커밋 전 다른 요청이 옛 상태로 채운 상황
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        cache.get(1L, id -> detail(id, loads));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 모임 조회 예외는 캐시하지 않는다")
+    void doesNotCacheFailures() {
+        assertThatThrownBy(() -> cache.get(9L, id -> {
+            throw new BusinessException(ErrorCode.CREW_NOT_FOUND);
+        })).isInstanceOf(BusinessException.class);
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(9L, id -> detail(id, loads));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private CrewDetailResponse detail(Long id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new CrewDetailResponse(id, "모임", "설명", 1L, "호스트", 1L, "서울", "중구",
+                LocalDateTime.now(), "장소", 37.5, 127.0, 10, PreferredLevel.BEGINNER, List.of());
+    }
+}
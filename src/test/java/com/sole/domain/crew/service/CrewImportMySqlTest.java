@@ -0,0 +1,104 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.CrewImportResponse;
+import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.support.IntegrationTestBase;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * MySQL Connector/J에서 일괄 등록이 실제로 multi-row INSERT로 나가는지와, 배치 단위로 돌려받은 생성 키가
+ * 행 순서와 맞는지 확인한다 (H2는 rewriteBatchedStatements가 없어 CrewImportServiceTest로는 드러나지 않는다).
+ * 소요 시간은 로그로 남긴다.
+ */
+class CrewImportMySqlTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(CrewImportMySqlTest.class);
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private CrewImportService crewImportService;
+    @Autowired
+    private CrewImportProperties crewImportProperties;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RunningCrewRepository runningCrewRepository;
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @AfterEach
+    void tearDown() {
+        crewMemberRepository.deleteAllInBatch();
+        runningCrewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        regionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("10만 행 일괄 등록은 배치마다 INSERT 문장 하나로 나가고, 호스트 멤버가 각자의 모임 ID를 가리킨다")
+    void importRewritesBatchesAndKeepsKeyOrder() {
+        Region region = regionRepository.save(new Region("서울", "중구"));
+        User host = userRepository.save(User.builder()
+                .email("partner@example.com")
+                .password("pw")
+                .nickname("partner")
+                .region(region)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build());
+        List<CrewCreateRequest> rows = new ArrayList<>(ROWS);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 6, 0);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new CrewCreateRequest("import-" + i, null, region.getId(), base.plusMinutes(i), "서울역",
+                    37.5 + (i % 1000) * 0.0001, 126.9 + (i / 1000) * 0.0001, 10, PreferredLevel.BEGINNER));
+        }
+
+        long insertsBefore = comInsert();
+        long start = System.nanoTime();
+        CrewImportResponse response = crewImportService.importCrews(host.getId(), rows, List.of());
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long inserts = comInsert() - insertsBefore;
+        log.info("MySQL bulk import: {} rows in {}s ({} rows/s), {} INSERT statements (batch-size {})",
+                ROWS, "%.2f".formatted(seconds), Math.round(ROWS / seconds), inserts, crewImportProperties.batchSize());
+
+        assertThat(response.imported()).isEqualTo(ROWS);
+        // 배치마다 모임 INSERT 1개 + 호스트 멤버 INSERT 1개. 다시 쓰이지 않았다면 행 수만큼(20만) 나간다
+        int batches = (ROWS + crewImportProperties.batchSize() - 1) / crewImportProperties.batchSize();
+        assertThat(inserts).isEqualTo(2L * batches);
+
+        // id 순서가 입력 순서와 같고, 모든 모임에 자기 id를 가리키는 호스트 멤버가 정확히 한 명 있다
+        List<String> titles = jdbcTemplate.queryForList("SELECT title FROM running_crews ORDER BY id", String.class);
+        assertThat(titles).isEqualTo(rows.stream().map(CrewCreateRequest::title).toList());
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM running_crews c
+                WHERE (SELECT COUNT(*) FROM crew_members m WHERE m.crew_id = c.id AND m.role = 'HOST') <> 1""",
+                Long.class)).isZero();
+        assertThat(crewMemberRepository.count()).isEqualTo(ROWS);
+    }
+
+    private long comInsert() {
+        return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Com_insert'",
+                (rs, rowNum) -> rs.getLong("Value"));
+    }
+}
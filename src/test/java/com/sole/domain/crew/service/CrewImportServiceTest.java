@@ -0,0 +1,129 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.CrewImportResponse;
+import com.sole.domain.crew.dto.CrewImportResponse.RowError;
+import com.sole.domain.crew.entity.CrewMember;
+import com.sole.domain.crew.entity.CrewRole;
+import com.sole.domain.crew.entity.RunningCrew;
+import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import com.sole.global.util.GeoCell;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 배치 경계를 넘나들도록 batch-size를 작게 두고, 커밋된 결과를 확인하므로 테스트 트랜잭션 없이 실행한다
+@SpringBootTest(properties = {"sole.crew.import.batch-size=2", "sole.crew.import.max-rows=10"})
+@ActiveProfiles("test")
+class CrewImportServiceTest {
+
+    @Autowired
+    private CrewImportService crewImportService;
+    @Autowired
+    private RunningCrewRepository runningCrewRepository;
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @AfterEach
+    void tearDown() {
+        crewMemberRepository.deleteAllInBatch();
+        runningCrewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        regionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("통과한 행만 배치로 등록하고 호스트 멤버를 함께 넣으며, 실패한 행은 번호와 사유를 돌려준다")
+    void importsValidRowsAndReportsRowErrors() {
+        Region region = regionRepository.save(new Region("서울", "송파구"));
+        User host = userRepository.save(User.builder()
+                .email("partner@example.com")
+                .password("pw")
+                .nickname("partner")
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build());
+
+        List<CrewCreateRequest> rows = new ArrayList<>(Arrays.asList(
+                row("잠실 1", region.getId(), 10),
+                row("", region.getId(), 10),           // 2: 제목 없음
+                row("잠실 3", region.getId(), 10),
+                row("잠실 4", region.getId() + 100, 10), // 4: 없는 지역
+                null,                                   // 5: CSV에서 읽지 못한 행
+                row("잠실 6", region.getId(), null),     // 6: 정원 없음
+                row("잠실 7", region.getId(), 10)
+        ));
+
+        CrewImportResponse response = crewImportService.importCrews(
+                host.getId(), rows, List.of(new RowError(5, "latitude: 형식이 올바르지 않습니다. (abc)")));
+
+        assertThat(response.requested()).isEqualTo(7);
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.errors()).extracting(RowError::row).containsExactly(2, 4, 5, 6);
+        assertThat(response.errors().get(0).message()).startsWith("title:");
+        assertThat(response.errors().get(1).message()).isEqualTo("regionId: 존재하지 않는 지역입니다.");
+        assertThat(response.errors().get(3).message()).isEqualTo("maxParticipants: 필수 값입니다.");
+
+        List<RunningCrew> crews = runningCrewRepository.findAll();
+        assertThat(crews).extracting(RunningCrew::getTitle).containsExactlyInAnyOrder("잠실 1", "잠실 3", "잠실 7");
+        assertThat(crews).allSatisfy(crew -> {
+            assertThat(crew.getCurrentParticipants()).isEqualTo(1);
+            assertThat(crew.getGeoCell()).isEqualTo(GeoCell.of(37.5145, 127.1059));
+        });
+        List<CrewMember> members = crewMemberRepository.findAll();
+        assertThat(members).hasSize(3);
+        assertThat(members).allSatisfy(member -> assertThat(member.getRole()).isEqualTo(CrewRole.HOST));
+        assertThat(members).extracting(member -> member.getCrew().getId())
+                .containsExactlyInAnyOrderElementsOf(crews.stream().map(RunningCrew::getId).toList());
+    }
+
+    @Test
+    @DisplayName("최대 행 수를 넘는 요청은 아무것도 등록하지 않고 거절한다")
+    void rejectsTooManyRows() {
+        List<CrewCreateRequest> rows = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            rows.add(row("모임 " + i, 1L, 10));
+        }
+
+        assertThatThrownBy(() -> crewImportService.importCrews(1L, rows, List.of()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CREW_IMPORT_TOO_LARGE);
+        assertThat(runningCrewRepository.count()).isZero();
+    }
+
+    private CrewCreateRequest row(String title, Long regionId, Integer maxParticipants) {
+        return new CrewCreateRequest(
+                title,
+                null,
+                regionId,
+                LocalDateTime.now().plusDays(3),
+                "잠실 종합운동장",
+                37.5145,
+                127.1059,
+                maxParticipants,
+                PreferredLevel.INTERMEDIATE
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import com.sole.support.IntegrationTestBase;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+/**
+ * InnoDB 락 동작 확인용. 멤버 INSERT의 외래 키 검사(모임 행 공유 락)와 좌석 예약 UPDATE(배타 락)의 순서가
+ * 어긋나면 동시 가입이 교착으로 실패하는데, H2 기반 CrewJoinConcurrencyTest로는 드러나지 않는다.
+ */
+class CrewJoinConcurrencyMySqlTest extends IntegrationTestBase {
+
+    private static final int CAPACITY = 10;
+    private static final int JOINERS = 100;
+
+    @Autowired
+    private CrewService crewService;
+    @Autowired
+    private RunningCrewRepository runningCrewRepository;
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @AfterEach
+    void tearDown() {
+        crewMemberRepository.deleteAllInBatch();
+        runningCrewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        regionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("MySQL에서 동시 가입이 몰려도 교착 없이 정원만큼만 가입되고 나머지는 정원 초과로 거절된다")
+    void concurrentJoinsDoNotDeadlock() throws Exception {
+        Region region = regionRepository.save(new Region("서울", "성동구"));
+        User host = userRepository.save(user("mysql-burst-host", region));
+        List<User> joiners = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            joiners.add(userRepository.save(user("mysql-burst-" + i, region)));
+        }
+        Long crewId = crewService.createCrew(host.getId(), new CrewCreateRequest(
+                "선착순 모임",
+                "오픈 직후 가입 폭주",
+                region.getId(),
+                LocalDateTime.now().plusDays(1),
+                "서울숲",
+                37.5444,
+                127.0374,
+                CAPACITY,
+                PreferredLevel.BEGINNER
+        ));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Exception> unexpected = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (User joiner : joiners) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        crewService.joinCrew(crewId, joiner.getId());
+                        joined.incrementAndGet();
+                    } catch (BusinessException e) {
+                        if (e.getErrorCode() == ErrorCode.CREW_MEMBER_LIMIT_EXCEEDED) {
+                            rejected.incrementAndGet();
+                        } else {
+                            unexpected.add(e);
+                        }
+                    } catch (Exception e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // MySQL 교착(1213)은 DeadlockLoserDataAccessException의 상위 타입인 PessimisticLockingFailureException으로 번역된다
+        assertThat(unexpected).noneMatch(PessimisticLockingFailureException.class::isInstance);
+        assertThat(unexpected).isEmpty();
+        assertThat(joined.get()).isEqualTo(CAPACITY - 1); // 호스트가 한 자리를 차지한다
+        assertThat(rejected.get()).isEqualTo(JOINERS - (CAPACITY - 1));
+        assertThat(crewMemberRepository.count()).isEqualTo(CAPACITY);
+        assertThat(runningCrewRepository.findById(crewId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(CAPACITY);
+    }
+
+    private User user(String name, Region region) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("pw")
+                .nickname(name)
+                .region(region)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build();
+    }
+}
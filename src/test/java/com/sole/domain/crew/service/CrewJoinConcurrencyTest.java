@@ -0,0 +1,121 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+@SpringBootTest
+@ActiveProfiles("test")
+class CrewJoinConcurrencyTest {
+
+    private static final int CAPACITY = 10;
+    private static final int JOINERS = 200;
+
+    @Autowired
+    private CrewService crewService;
+    @Autowired
+    private RunningCrewRepository runningCrewRepository;
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @AfterEach
+    void tearDown() {
+        crewMemberRepository.deleteAllInBatch();
+        runningCrewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        regionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("한 모임에 동시 가입이 몰려도 정원을 넘기지 않는다")
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        Region region = regionRepository.save(new Region("서울", "마포구"));
+        User host = userRepository.save(user("burst-host", region));
+        List<User> joiners = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            joiners.add(userRepository.save(user("burst-" + i, region)));
+        }
+        Long crewId = crewService.createCrew(host.getId(), new CrewCreateRequest(
+                "선착순 모임",
+                "오픈 직후 가입 폭주",
+                region.getId(),
+                LocalDateTime.now().plusDays(1),
+                "망원 한강공원",
+                37.5556,
+                126.8950,
+                CAPACITY,
+                PreferredLevel.BEGINNER
+        ));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (User joiner : joiners) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        crewService.joinCrew(crewId, joiner.getId());
+                        joined.incrementAndGet();
+                    } catch (BusinessException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CREW_MEMBER_LIMIT_EXCEEDED);
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(joined.get()).isEqualTo(CAPACITY - 1); // 호스트가 한 자리를 차지한다
+        assertThat(rejected.get()).isEqualTo(JOINERS - (CAPACITY - 1));
+        assertThat(crewMemberRepository.count()).isEqualTo(CAPACITY);
+        assertThat(runningCrewRepository.findById(crewId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(CAPACITY);
+    }
+
+    private User user(String name, Region region) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("pw")
+                .nickname(name)
+                .region(region)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build();
+    }
+}
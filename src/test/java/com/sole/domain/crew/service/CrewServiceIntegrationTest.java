@@ -11,6 +11,7 @@ import com.sole.domain.region.repository.RegionRepository;
 import com.sole.domain.user.entity.PreferredLevel;
 import com.sole.domain.user.entity.User;
 import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.common.CursorResponse;
 import com.sole.global.common.ErrorCode;
 import com.sole.global.exception.BusinessException;
 import com.sole.support.IntegrationTestBase;
@@ -130,9 +131,9 @@ class CrewServiceIntegrationTest extends IntegrationTestBase {
         createCrew(host, region, "5km", baseLat + 0.05, baseLng, meeting);
 
         NearbyCrewRequest request2km = new NearbyCrewRequest(
-                baseLat, baseLng, 2.0, null, null, null
+                baseLat, baseLng, 2.0, null, null, null, null, null
         );
-        List<NearbyCrewResponse> within2km = crewService.getNearbyCrews(request2km);
+        List<NearbyCrewResponse> within2km = crewService.getNearbyCrews(request2km).content();
 
         assertThat(within2km).extracting(NearbyCrewResponse::crewId)
                 .containsExactly(veryCloseId, closeId);
@@ -141,11 +142,21 @@ class CrewServiceIntegrationTest extends IntegrationTestBase {
         assertThat(within2km.get(within2km.size() - 1).distanceKm()).isLessThanOrEqualTo(2.0);
 
         NearbyCrewRequest requestHalfKm = new NearbyCrewRequest(
-                baseLat, baseLng, 0.3, null, null, null
+                baseLat, baseLng, 0.3, null, null, null, null, null
         );
-        List<NearbyCrewResponse> withinHalfKm = crewService.getNearbyCrews(requestHalfKm);
+        List<NearbyCrewResponse> withinHalfKm = crewService.getNearbyCrews(requestHalfKm).content();
         assertThat(withinHalfKm).extracting(NearbyCrewResponse::crewId)
                 .containsExactly(veryCloseId);
+
+        CursorResponse<NearbyCrewResponse> firstPage = crewService.getNearbyCrews(
+                new NearbyCrewRequest(baseLat, baseLng, 2.0, null, null, null, 1, null));
+        assertThat(firstPage.content()).extracting(NearbyCrewResponse::crewId).containsExactly(veryCloseId);
+        assertThat(firstPage.hasNext()).isTrue();
+
+        CursorResponse<NearbyCrewResponse> secondPage = crewService.getNearbyCrews(
+                new NearbyCrewRequest(baseLat, baseLng, 2.0, null, null, null, 1, firstPage.nextCursor()));
+        assertThat(secondPage.content()).extracting(NearbyCrewResponse::crewId).containsExactly(closeId);
+        assertThat(secondPage.hasNext()).isFalse();
     }
 
     private Long createCrew(User host, Region region, String title,
@@ -1,15 +1,29 @@
 package com.sole.domain.crew.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.CrewSearchCondition;
+import com.sole.domain.crew.dto.CrewSummaryResponse;
+import com.sole.domain.crew.dto.NearbyCrewResponse;
+import com.sole.domain.crew.dto.NearbyCursor;
 import com.sole.domain.crew.entity.CrewMember;
 import com.sole.domain.crew.entity.CrewRole;
 import com.sole.domain.crew.entity.RunningCrew;
 import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.CrewQueryMapper;
 import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
 import com.sole.domain.region.entity.Region;
 import com.sole.domain.region.repository.RegionRepository;
 import com.sole.domain.user.entity.PreferredLevel;
@@ -17,14 +31,25 @@ import com.sole.domain.user.entity.User;
 import com.sole.domain.user.repository.UserRepository;
 import com.sole.global.common.ErrorCode;
 import com.sole.global.exception.BusinessException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 class CrewServiceTest {
@@ -37,6 +62,21 @@ class CrewServiceTest {
     private UserRepository userRepository;
     @Mock
     private RegionRepository regionRepository;
+    @Mock
+    private CrewSpatialIndex crewSpatialIndex;
+    @Mock
+    private NearbySearchMode nearbySearchMode;
+    @Mock
+    private CrewQueryMapper crewQueryMapper;
+    @Mock
+    private CrewDetailCache crewDetailCache;
+    @Mock
+    private NearbyCandidateCache nearbyCandidateCache;
+    @Spy
+    private CrewCountCache crewCountCache =
+            new CrewCountCache(new CrewListProperties(Duration.ofSeconds(30), 100));
+    @Spy
+    private CrewStreamProperties crewStreamProperties = new CrewStreamProperties(2, Duration.ofSeconds(30), 1);
 
     @InjectMocks
     private CrewService crewService;
@@ -70,7 +110,13 @@ class CrewServiceTest {
         when(runningCrewRepository.findById(1L)).thenReturn(Optional.of(crew));
         when(userRepository.findById(3L)).thenReturn(Optional.of(user));
         when(crewMemberRepository.findByCrewAndUser(crew, user)).thenReturn(Optional.empty());
-        when(crewMemberRepository.countByCrew(crew)).thenReturn(crew.getMaxParticipants());
+        for (long id = 10; crew.getCurrentParticipants() < crew.getMaxParticipants(); id++) {
+            crew.addMember(CrewMember.builder()
+                    .user(sampleUser(id))
+                    .role(CrewRole.MEMBER)
+                    .joinedAt(LocalDateTime.now())
+                    .build());
+        }
 
         assertThatThrownBy(() -> crewService.joinCrew(1L, 3L))
                 .isInstanceOf(BusinessException.class)
@@ -78,6 +124,105 @@ class CrewServiceTest {
                 .isEqualTo(ErrorCode.CREW_MEMBER_LIMIT_EXCEEDED);
     }
 
+    @Test
+    @DisplayName("동시 가입으로 좌석 예약에 실패하면 정원 초과 예외가 발생한다")
+    void joinCrewSeatReservationFails() {
+        RunningCrew crew = sampleCrew();
+        User user = sampleUser(3L);
+        when(runningCrewRepository.findById(1L)).thenReturn(Optional.of(crew));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user));
+        when(crewMemberRepository.findByCrewAndUser(crew, user)).thenReturn(Optional.empty());
+        when(runningCrewRepository.reserveSeat(1L)).thenReturn(0); // 메모리상 인원은 여유가 있지만 DB 좌석은 이미 찼다
+
+        assertThatThrownBy(() -> crewService.joinCrew(1L, 3L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CREW_MEMBER_LIMIT_EXCEEDED);
+        verify(crewSpatialIndex, never()).adjustParticipants(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("같은 검색 조건으로 페이지를 넘기면 전체 건수를 다시 세지 않는다")
+    void getCrewsReusesCachedTotal() {
+        CrewSearchCondition condition = new CrewSearchCondition(1L, null, null);
+        List<CrewSummaryProjection> fullPage = List.of(summary(1L), summary(2L), summary(3L)); // size + 1건
+        when(crewQueryMapper.search(eq(1L), any(), any(), any(), eq("c.meeting_time ASC, c.id ASC"), anyLong(), eq(3)))
+                .thenReturn(fullPage);
+        when(crewQueryMapper.count(1L, null, null, null)).thenReturn(7L);
+
+        Page<CrewSummaryResponse> first = crewService.getCrews(condition, PageRequest.of(0, 2, Sort.by("meetingTime")));
+        Page<CrewSummaryResponse> second = crewService.getCrews(condition, PageRequest.of(1, 2, Sort.by("meetingTime")));
+
+        assertThat(first.getTotalElements()).isEqualTo(7L);
+        assertThat(second.getTotalElements()).isEqualTo(7L);
+        verify(crewQueryMapper, times(1)).count(1L, null, null, null);
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 속성으로 정렬하면 입력값 오류가 발생한다")
+    void orderByRejectsUnknownProperty() {
+        assertThat(CrewService.orderBy(Sort.by(Sort.Order.desc("meetingTime"))))
+                .isEqualTo("c.meeting_time DESC, c.id ASC");
+        assertThatThrownBy(() -> CrewService.orderBy(Sort.by("title; drop table users")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("스트림은 최대 건수보다 한 행 더 요청하고, 그 행이 오면 보낸 뒤 건수 초과로 중단한다")
+    @SuppressWarnings("unchecked")
+    void streamCrewsStopsAtMaxRows() {
+        List<CrewSummaryProjection> rows = List.of(summary(1L), summary(2L), summary(3L));
+        Cursor<CrewSummaryProjection> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(rows.iterator());
+        when(crewQueryMapper.stream(any(), any(), any(), any(), any(), eq(3))).thenReturn(cursor);
+        List<Long> written = new ArrayList<>();
+
+        assertThatThrownBy(() -> crewService.streamCrews(
+                new CrewSearchCondition(null, null, null), Sort.by("meetingTime"), row -> written.add(row.id())))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CREW_STREAM_LIMIT_EXCEEDED);
+        assertThat(written).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("주변 검색을 커서로 이어 받으면 (거리, id) 전체 정렬 결과를 빠짐없이 이어 붙인 것과 같다")
+    void rankByDistanceResumesFromCursor() {
+        List<CrewSummaryProjection> candidates = new ArrayList<>();
+        Random random = new Random(3);
+        for (long id = 1; id <= 60; id++) {
+            // 같은 좌표를 여러 모임이 쓰도록 해 거리 동점은 id로 정렬되는지 함께 본다
+            double lat = 37.5665 + (random.nextInt(20) - 10) * 0.001;
+            double lng = 126.9780 + (random.nextInt(20) - 10) * 0.001;
+            candidates.add(new CrewSummaryProjection(id, "모임" + id, 1L, "서울", "중구", LocalDateTime.now(),
+                    "장소", lat, lng, 5, 1, PreferredLevel.BEGINNER));
+        }
+        Collections.shuffle(candidates, random);
+
+        List<NearbyCrewResponse> all = CrewService.rankByDistance(
+                candidates, 37.5665, 126.9780, 1.0, null, Integer.MAX_VALUE);
+        List<NearbyCrewResponse> paged = new ArrayList<>();
+        NearbyCursor cursor = null;
+        while (true) {
+            List<NearbyCrewResponse> page = CrewService.rankByDistance(
+                    candidates, 37.5665, 126.9780, 1.0, cursor, 7);
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.addAll(page);
+            NearbyCrewResponse last = page.get(page.size() - 1);
+            cursor = NearbyCursor.decode(new NearbyCursor(last.distanceKm(), last.crewId()).encode());
+        }
+
+        assertThat(all).isNotEmpty()
+                .isSortedAccordingTo(Comparator.comparingDouble(NearbyCrewResponse::distanceKm)
+                        .thenComparing(NearbyCrewResponse::crewId))
+                .allSatisfy(crew -> assertThat(crew.distanceKm()).isLessThanOrEqualTo(1.0));
+        assertThat(paged).containsExactlyElementsOf(all);
+    }
+
     @Test
     @DisplayName("호스트는 탈퇴할 수 없다")
     void hostCannotLeave() {
@@ -120,6 +265,11 @@ class CrewServiceTest {
                 .isEqualTo(ErrorCode.USER_NOT_FOUND);
     }
 
+    private CrewSummaryProjection summary(Long id) {
+        return new CrewSummaryProjection(id, "모임" + id, 1L, "서울", "중구", LocalDateTime.now(),
+                "장소", 37.5, 127.0, 5, 1, PreferredLevel.BEGINNER);
+    }
+
     private RunningCrew sampleCrew() {
         User host = sampleUser(1L);
         Region region = new Region("서울", "중구");
@@ -0,0 +1,204 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sole.domain.crew.entity.RunningCrew;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CrewSpatialIndexTest {
+
+    private static final double BASE_LAT = 37.5665;
+    private static final double BASE_LNG = 126.9780;
+
+    @Mock
+    private RunningCrewRepository runningCrewRepository;
+
+    private CrewSpatialIndex index;
+    private final LocalDateTime meeting = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        NearbySearchProperties properties = new NearbySearchProperties(
+                NearbySearchProperties.Backend.INDEX, Duration.ofMinutes(10), Duration.ofHours(2),
+                new NearbySearchProperties.ResultCache(true, Duration.ofSeconds(30), 100, 0.005, 0.5));
+        index = new CrewSpatialIndex(runningCrewRepository, properties,
+                new NearbySearchMode(NearbySearchProperties.Backend.INDEX));
+    }
+
+    @Test
+    @DisplayName("콜드 스타트에 한 번만 DB를 읽고 바운딩 박스/레벨/기간으로 후보를 거른다")
+    void coldStartLoadsOnceAndFilters() {
+        when(runningCrewRepository.findUpcomingSummaries(any())).thenReturn(List.of(
+                summary(1L, BASE_LAT + 0.002, BASE_LNG, PreferredLevel.BEGINNER, meeting),
+                summary(2L, BASE_LAT + 0.009, BASE_LNG, PreferredLevel.ADVANCED, meeting),
+                summary(3L, BASE_LAT + 0.05, BASE_LNG, PreferredLevel.BEGINNER, meeting),
+                summary(4L, BASE_LAT, BASE_LNG + 0.001, PreferredLevel.BEGINNER, meeting.minusDays(3))
+        ));
+        BoundingBox box = CrewService.calculateBoundingBox(BASE_LAT, BASE_LNG, 2.0);
+
+        List<CrewSummaryProjection> all = index.search(box, null, null, null);
+        List<CrewSummaryProjection> beginnerUpcoming =
+                index.search(box, PreferredLevel.BEGINNER, LocalDateTime.now(), null);
+
+        // 적재 뒤 이미 지난 모임(4L)은 시작 시각을 주지 않아도 검색에서 빠진다
+        assertThat(all).extracting(CrewSummaryProjection::id).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(beginnerUpcoming).extracting(CrewSummaryProjection::id).containsExactly(1L);
+        verify(runningCrewRepository, times(1)).findUpcomingSummaries(any());
+    }
+
+    @Test
+    @DisplayName("적재/재빌드는 유예 기간 이후의 모임만 읽고, 그보다 이른 시작 시각은 인덱스 범위 밖으로 본다")
+    void loadsOnlyUpcomingCrews() {
+        when(runningCrewRepository.findUpcomingSummaries(any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now().minusHours(2);
+        index.search(CrewService.calculateBoundingBox(BASE_LAT, BASE_LNG, 1.0), null, null, null);
+        index.rebuild();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(runningCrewRepository, times(2)).findUpcomingSummaries(from.capture());
+        assertThat(from.getAllValues()).allSatisfy(value ->
+                assertThat(value).isAfterOrEqualTo(before).isBefore(LocalDateTime.now().minusHours(1)));
+        assertThat(index.covers(null)).isTrue();
+        assertThat(index.covers(LocalDateTime.now())).isTrue();
+        assertThat(index.covers(LocalDateTime.now().minusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("모임 생성/이동/참여/삭제가 DB 재조회 없이 인덱스에 반영된다")
+    void mutationsAreVisibleWithoutReload() {
+        when(runningCrewRepository.findUpcomingSummaries(any())).thenReturn(List.of());
+        BoundingBox box = CrewService.calculateBoundingBox(BASE_LAT, BASE_LNG, 1.0);
+        assertThat(index.search(box, null, null, null)).isEmpty();
+
+        RunningCrew crew = crew(10L, BASE_LAT + 0.001, BASE_LNG);
+        index.upsert(crew, 1);
+        assertThat(index.search(box, null, null, null))
+                .extracting(CrewSummaryProjection::id).containsExactly(10L);
+
+        index.adjustParticipants(10L, 2);
+        assertThat(index.search(box, null, null, null))
+                .extracting(CrewSummaryProjection::currentParticipants).containsExactly(3L);
+
+        crew.update(crew.getTitle(), crew.getDescription(), crew.getRegion(), crew.getMeetingTime(),
+                crew.getPlace(), BASE_LAT + 0.2, BASE_LNG, crew.getMaxParticipants(), crew.getLevel());
+        index.upsert(crew, 3);
+        assertThat(index.search(box, null, null, null)).isEmpty();
+
+        index.remove(10L);
+        BoundingBox movedBox = CrewService.calculateBoundingBox(BASE_LAT + 0.2, BASE_LNG, 1.0);
+        assertThat(index.search(movedBox, null, null, null)).isEmpty();
+        verify(runningCrewRepository, times(1)).findUpcomingSummaries(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에만 보이고, 롤백되면 동시에 커밋된 참여 인원 변화를 건드리지 않는다")
+    void mutationsApplyOnlyAfterCommit() {
+        when(runningCrewRepository.findUpcomingSummaries(any())).thenReturn(List.of(
+                summary(1L, BASE_LAT, BASE_LNG, PreferredLevel.BEGINNER, meeting)));
+        BoundingBox box = CrewService.calculateBoundingBox(BASE_LAT, BASE_LNG, 1.0);
+        index.search(box, null, null, null);
+
+        // 커밋 전에는 새 모임이 보이지 않는다
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.upsert(crew(10L, BASE_LAT + 0.001, BASE_LNG), 1);
+            assertThat(index.search(box, null, null, null)).extracting(CrewSummaryProjection::id).containsExactly(1L);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(index.search(box, null, null, null)).extracting(CrewSummaryProjection::id)
+                .containsExactlyInAnyOrder(1L, 10L);
+
+        // 롤백된 삭제 사이에 다른 트랜잭션의 가입이 커밋되어도 그 인원 변화가 남는다
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.remove(1L);
+            assertThat(index.search(box, null, null, null)).extracting(CrewSummaryProjection::id).contains(1L);
+            CompletableFuture.runAsync(() -> index.adjustParticipants(1L, 1)).join(); // 다른 스레드의 가입 커밋
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(index.search(box, null, null, null))
+                .filteredOn(crew -> crew.id() == 1L)
+                .extracting(CrewSummaryProjection::currentParticipants).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("모임 수정은 이동/제목을 반영하되 인덱스의 참여 인원은 유지한다")
+    void updateKeepsIndexedParticipants() {
+        when(runningCrewRepository.findUpcomingSummaries(any())).thenReturn(List.of());
+        BoundingBox box = CrewService.calculateBoundingBox(BASE_LAT, BASE_LNG, 1.0);
+        index.search(box, null, null, null);
+        RunningCrew crew = crew(10L, BASE_LAT, BASE_LNG);
+        index.upsert(crew, 1);
+
+        // 수정 트랜잭션이 모임을 읽은 뒤 다른 트랜잭션의 가입 두 건이 커밋된다
+        index.adjustParticipants(10L, 2);
+        crew.update("새 제목", crew.getDescription(), crew.getRegion(), crew.getMeetingTime(),
+                crew.getPlace(), BASE_LAT + 0.001, BASE_LNG, crew.getMaxParticipants(), crew.getLevel());
+        index.update(crew);
+
+        assertThat(index.search(box, null, null, null)).singleElement().satisfies(found -> {
+            assertThat(found.title()).isEqualTo("새 제목");
+            assertThat(found.latitude()).isEqualTo(BASE_LAT + 0.001);
+            assertThat(found.currentParticipants()).isEqualTo(3L);
+        });
+    }
+
+    private CrewSummaryProjection summary(Long id, double lat, double lng,
+                                          PreferredLevel level, LocalDateTime meetingTime) {
+        return new CrewSummaryProjection(id, "크루" + id, 1L, "서울", "중구", meetingTime,
+                "장소", lat, lng, 10, 1, level);
+    }
+
+    private RunningCrew crew(Long id, double lat, double lng) {
+        Region region = new Region("서울", "중구");
+        ReflectionTestUtils.setField(region, "id", 1L);
+        User host = User.builder()
+                .email("host@example.com")
+                .password("pw")
+                .nickname("호스트")
+                .build();
+        RunningCrew crew = RunningCrew.builder()
+                .title("인덱스 테스트")
+                .description("설명")
+                .host(host)
+                .region(region)
+                .meetingTime(meeting)
+                .place("장소")
+                .latitude(lat)
+                .longitude(lng)
+                .maxParticipants(10)
+                .level(PreferredLevel.BEGINNER)
+                .build();
+        ReflectionTestUtils.setField(crew, "id", id);
+        return crew;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.dto.NearbyCrewRequest;
+import com.sole.domain.crew.repository.projection.CrewSummaryProjection;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.global.util.DistanceCalculator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NearbyCandidateCacheTest {
+
+    private static final double STATION_LAT = 37.5547;
+    private static final double STATION_LNG = 126.9707;
+
+    private final List<CrewSummaryProjection> crews = new ArrayList<>();
+    private final List<BoundingBox> loadedBoxes = new ArrayList<>();
+    private NearbyCandidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        NearbySearchProperties properties = new NearbySearchProperties(
+                NearbySearchProperties.Backend.DATABASE,
+                Duration.ofMinutes(10), Duration.ofHours(2),
+                new NearbySearchProperties.ResultCache(true, Duration.ofSeconds(30), 100, 0.005, 0.5)
+        );
+        cache = new NearbyCandidateCache(properties, new NearbySearchMode(NearbySearchProperties.Backend.DATABASE));
+    }
+
+    @Test
+    @DisplayName("같은 핫스팟의 비슷한 요청은 한 번만 읽고, 캐시된 후보가 각 요청의 반경을 모두 덮는다")
+    void nearbyRequestsShareCandidates() {
+        LocalDateTime meeting = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 20; i++) {
+            crews.add(crew(i, STATION_LAT + (i - 10) * 0.002, STATION_LNG + (i - 10) * 0.002, meeting));
+        }
+        NearbyCrewRequest first = new NearbyCrewRequest(STATION_LAT, STATION_LNG, 1.0, null, null, null, null, null);
+        NearbyCrewRequest second = new NearbyCrewRequest(
+                STATION_LAT + 0.0002, STATION_LNG - 0.0002, 0.8, null, null, null, null, null);
+
+        List<CrewSummaryProjection> firstCandidates = cache.candidates(first, this::load);
+        List<CrewSummaryProjection> secondCandidates = cache.candidates(second, this::load);
+
+        assertThat(loadedBoxes).hasSize(1);
+        assertThat(firstCandidates).containsAll(withinRadius(first));
+        assertThat(secondCandidates).containsAll(withinRadius(second));
+    }
+
+    @Test
+    @DisplayName("캐시된 후보도 요청의 정확한 기간으로 다시 거른다")
+    void refiltersExactTimeWindow() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withMinute(30);
+        crews.add(crew(1, STATION_LAT, STATION_LNG, start.minusMinutes(10)));
+        crews.add(crew(2, STATION_LAT, STATION_LNG, start.plusMinutes(10)));
+
+        List<CrewSummaryProjection> result = cache.candidates(
+                new NearbyCrewRequest(STATION_LAT, STATION_LNG, 1.0, null, start, null, null, null), this::load);
+
+        assertThat(result).extracting(CrewSummaryProjection::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("모임이 바뀐 위치를 덮는 키만 비우고 먼 지역 캐시는 유지한다")
+    void invalidatesOnlyAffectedCells() {
+        NearbyCrewRequest station = new NearbyCrewRequest(STATION_LAT, STATION_LNG, 1.0, null, null, null, null, null);
+        NearbyCrewRequest busan = new NearbyCrewRequest(35.1587, 129.1604, 1.0, null, null, null, null, null);
+        cache.candidates(station, this::load);
+        cache.candidates(busan, this::load);
+
+        cache.invalidate(STATION_LAT + 0.001, STATION_LNG);
+        cache.candidates(station, this::load);
+        cache.candidates(busan, this::load);
+
+        assertThat(loadedBoxes).hasSize(3); // 서울역만 다시 읽는다
+    }
+
+    @Test
+    @DisplayName("덮는 범위가 무효화 셀 상한을 넘으면 셀에 등록하지 않고 캐시 없이 바로 읽는다")
+    void skipsCachingWideBoxes() {
+        NearbyCrewRequest maxRadius = new NearbyCrewRequest(STATION_LAT, STATION_LNG, 50.0, null, null, null, null, null);
+        NearbyCrewRequest polar = new NearbyCrewRequest(89.9, 0.0, 50.0, null, null, null, null, null);
+
+        cache.candidates(maxRadius, this::load);
+        cache.candidates(maxRadius, this::load);
+        cache.candidates(polar, this::load);
+        cache.candidates(polar, this::load);
+
+        assertThat(loadedBoxes).hasSize(3); // 요청 상한 반경은 중위도에서 캐시되고, 극지방의 넓은 범위는 매번 읽는다
+        assertThat(NearbyCandidateCache.cellCount(loadedBoxes.get(0)))
+                .isLessThanOrEqualTo(NearbyCandidateCache.MAX_REGISTERED_CELLS);
+    }
+
+    private List<CrewSummaryProjection> load(BoundingBox box, PreferredLevel level,
+                                             LocalDateTime start, LocalDateTime endExclusive) {
+        loadedBoxes.add(box);
+        return crews.stream()
+                .filter(crew -> box.contains(crew.latitude(), crew.longitude()))
+                .filter(crew -> start == null || !crew.meetingTime().isBefore(start))
+                .toList();
+    }
+
+    private List<CrewSummaryProjection> withinRadius(NearbyCrewRequest request) {
+        return crews.stream()
+                .filter(crew -> DistanceCalculator.haversineKm(request.latitude(), request.longitude(),
+                        crew.latitude(), crew.longitude()) <= request.radiusKm())
+                .toList();
+    }
+
+    private CrewSummaryProjection crew(long id, double lat, double lng, LocalDateTime meetingTime) {
+        return new CrewSummaryProjection(id, "크루" + id, 1L, "서울", "용산구", meetingTime,
+                "서울역", lat, lng, 10, 1, PreferredLevel.BEGINNER);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sole.domain.crew.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.NearbyCrewRequest;
+import com.sole.domain.crew.dto.NearbyCrewResponse;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.global.common.CursorResponse;
+import com.sole.global.util.DistanceCalculator;
+import com.sole.support.IntegrationTestBase;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+@TestPropertySource(properties = "sole.crew.nearby.backend=spatial")
+class SpatialNearbySearchIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private CrewService crewService;
+    @Autowired
+    private NearbySearchMode nearbySearchMode;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Test
+    @Transactional
+    @DisplayName("SPATIAL 백엔드는 MySQL에서 반경 필터와 거리 정렬을 수행한다")
+    void spatialBackendFiltersAndSortsInDatabase() {
+        assertThat(nearbySearchMode.usesSpatial()).isTrue();
+
+        Region region = regionRepository.save(new Region("서울", "종로구"));
+        User host = userRepository.save(User.builder()
+                .email("spatial-host@example.com")
+                .password("pw")
+                .nickname("호스트")
+                .region(region)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build());
+
+        double baseLat = 37.5665;
+        double baseLng = 126.9780;
+        Long closeId = createCrew(host, region, baseLat + 0.009, baseLng);
+        Long veryCloseId = createCrew(host, region, baseLat + 0.002, baseLng);
+        createCrew(host, region, baseLat + 0.05, baseLng);
+
+        List<NearbyCrewResponse> result = crewService.getNearbyCrews(
+                new NearbyCrewRequest(baseLat, baseLng, 2.0, null, null, null, null, null)).content();
+
+        assertThat(result).extracting(NearbyCrewResponse::crewId)
+                .containsExactly(veryCloseId, closeId);
+        NearbyCrewResponse nearest = result.get(0);
+        assertThat(nearest.distanceKm()).isCloseTo(
+                DistanceCalculator.haversineKm(baseLat, baseLng, nearest.latitude(), nearest.longitude()),
+                within(0.001));
+
+        CursorResponse<NearbyCrewResponse> first = crewService.getNearbyCrews(
+                new NearbyCrewRequest(baseLat, baseLng, 2.0, null, null, null, 1, null));
+        CursorResponse<NearbyCrewResponse> second = crewService.getNearbyCrews(
+                new NearbyCrewRequest(baseLat, baseLng, 2.0, null, null, null, 1, first.nextCursor()));
+        assertThat(first.content()).extracting(NearbyCrewResponse::crewId).containsExactly(veryCloseId);
+        assertThat(second.content()).extracting(NearbyCrewResponse::crewId).containsExactly(closeId);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    private Long createCrew(User host, Region region, double latitude, double longitude) {
+        return crewService.createCrew(host.getId(), new CrewCreateRequest(
+                "공간 인덱스",
+                "설명",
+                region.getId(),
+                LocalDateTime.now().plusDays(1),
+                "장소",
+                latitude,
+                longitude,
+                10,
+                PreferredLevel.BEGINNER
+        ));
+    }
+}
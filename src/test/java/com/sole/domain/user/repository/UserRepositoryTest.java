@@ -6,6 +6,7 @@ import com.sole.domain.region.entity.Region;
 import com.sole.domain.region.repository.RegionRepository;
 import com.sole.domain.user.entity.PreferredLevel;
 import com.sole.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +25,9 @@ class UserRepositoryTest {
     @Autowired
     private RegionRepository regionRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("사용자와 연관된 지역을 함께 조회한다")
     void findWithRegionById() {
@@ -43,4 +47,41 @@ class UserRepositoryTest {
                     assertThat(found.getRegion().getDistrict()).isEqualTo("마포구");
                 });
     }
+
+    @Test
+    @DisplayName("비밀번호 변경은 읽은 해시가 그대로일 때만 반영된다")
+    void changePasswordComparesCurrentHash() {
+        User user = userRepository.save(User.builder()
+                .email("hash@example.com")
+                .password("old-hash")
+                .nickname("해시")
+                .build());
+
+        assertThat(userRepository.changePassword(user.getId(), "old-hash", "new-hash")).isEqualTo(1);
+        assertThat(userRepository.changePassword(user.getId(), "old-hash", "other-hash")).isZero();
+        entityManager.clear();
+        assertThat(userRepository.findById(user.getId()))
+                .get()
+                .extracting(User::getPassword)
+                .isEqualTo("new-hash");
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경과 전체 로그아웃은 tokenVersion을 올리고, cost 재계산(rehash)은 그대로 둔다")
+    void tokenVersionBumps() {
+        User user = userRepository.save(User.builder()
+                .email("version@example.com")
+                .password("old-hash")
+                .nickname("버전")
+                .build());
+        Long id = user.getId();
+
+        assertThat(userRepository.findTokenVersionById(id)).contains(0);
+        assertThat(userRepository.rehashPassword(id, "old-hash", "rehashed")).isEqualTo(1);
+        assertThat(userRepository.findTokenVersionById(id)).contains(0);
+        assertThat(userRepository.changePassword(id, "rehashed", "new-hash")).isEqualTo(1);
+        assertThat(userRepository.findTokenVersionById(id)).contains(1);
+        assertThat(userRepository.increaseTokenVersion(id)).isEqualTo(1);
+        assertThat(userRepository.findTokenVersionById(id)).contains(2);
+    }
 }
@@ -0,0 +1,58 @@
+package com.sole.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserPrincipalTest {
+
+    @Test
+    @DisplayName("세션 SecurityContext를 직렬화/역직렬화해도 식별 정보와 권한이 유지되고 비밀번호는 남지 않는다")
+    void securityContextRoundTrip() throws Exception {
+        Region region = new Region("서울", "중구");
+        User user = User.builder()
+                .email("runner@example.com")
+                .password("$2a$10$hash")
+                .nickname("러너")
+                .region(region)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 42L);
+        UserPrincipal principal = UserPrincipal.from(user);
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, "password123", principal.getAuthorities());
+        authentication.eraseCredentials();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new SecurityContextImpl(authentication));
+        }
+        SecurityContext restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (SecurityContext) in.readObject();
+        }
+
+        UserPrincipal restoredPrincipal = (UserPrincipal) restored.getAuthentication().getPrincipal();
+        assertThat(principal.getPassword()).isNull();
+        assertThat(restoredPrincipal).isEqualTo(principal);
+        assertThat(restoredPrincipal.getId()).isEqualTo(42L);
+        assertThat(restoredPrincipal.getUsername()).isEqualTo("runner@example.com");
+        assertThat(restoredPrincipal.getNickname()).isEqualTo("러너");
+        assertThat(restoredPrincipal.getPassword()).isNull();
+        assertThat(restoredPrincipal.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+    }
+}
@@ -57,6 +57,23 @@ class UserServiceTest {
         verify(passwordEncoder, never()).encode(any());
     }
 
+    @Test
+    @DisplayName("검증 뒤 다른 요청이 먼저 비밀번호를 바꿨으면 덮어쓰지 않고 불일치로 거절한다")
+    void changePasswordLosesRace() {
+        User user = sampleUser();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("current", "hashed")).thenReturn(true);
+        when(passwordEncoder.encode("newPassword1!")).thenReturn("new-hash");
+        when(userRepository.changePassword(1L, "hashed", "new-hash")).thenReturn(0);
+
+        ChangePasswordRequest request = new ChangePasswordRequest("current", "newPassword1!");
+
+        assertThatThrownBy(() -> userService.changePassword(1L, request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PASSWORD_MISMATCH);
+    }
+
     @Test
     @DisplayName("존재하지 않는 지역으로는 프로필을 수정할 수 없다")
     void updateProfileRegionNotFound() {
@@ -0,0 +1,46 @@
+package com.sole.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0"
+)
+@ActiveProfiles("test")
+class ManagementPortTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    @DisplayName("prometheus는 management 포트에서만 응답하고, 서비스 포트에는 프로브만 열려 있다")
+    void prometheusIsOnlyOnManagementPort() throws Exception {
+        assertThat(get(managementPort, "/actuator/prometheus")).isEqualTo(200);
+        assertThat(get(managementPort, "/actuator/health")).isEqualTo(200);
+
+        assertThat(get(port, "/actuator/prometheus")).isEqualTo(404);
+        assertThat(get(port, "/readyz")).isEqualTo(200);
+        assertThat(get(port, "/livez")).isEqualTo(200);
+    }
+
+    private int get(int targetPort, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + targetPort + path)).build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
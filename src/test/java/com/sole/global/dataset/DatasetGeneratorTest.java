@@ -0,0 +1,164 @@
+package com.sole.global.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.entity.CrewRole;
+import com.sole.global.dataset.DatasetGenerator.Summary;
+import com.sole.global.util.GeoCell;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class DatasetGeneratorTest {
+
+    private static final LocalDateTime ANCHOR = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("같은 seed는 같은 데이터를, 다른 seed는 다른 데이터를 만든다")
+    void deterministicBySeed() {
+        CollectingSink first = generate(properties(42, 500, 2_000));
+        CollectingSink second = generate(properties(42, 500, 2_000));
+        CollectingSink other = generate(properties(7, 500, 2_000));
+
+        assertThat(second.users).isEqualTo(first.users);
+        assertThat(second.crews).isEqualTo(first.crews);
+        assertThat(second.members).isEqualTo(first.members);
+        assertThat(other.crews).isNotEqualTo(first.crews);
+    }
+
+    @Test
+    @DisplayName("참여 인원은 멤버 행 수와 같고 정원을 넘지 않으며, 호스트가 첫 멤버다")
+    void membershipIsConsistent() {
+        CollectingSink sink = generate(properties(42, 500, 2_000));
+
+        Map<Long, List<DatasetSink.MemberRow>> byCrew = new HashMap<>();
+        Set<String> pairs = new HashSet<>();
+        for (DatasetSink.MemberRow member : sink.members) {
+            byCrew.computeIfAbsent(member.crewId(), id -> new ArrayList<>()).add(member);
+            assertThat(pairs.add(member.crewId() + ":" + member.userId())).isTrue();
+        }
+        for (DatasetSink.CrewRow crew : sink.crews) {
+            List<DatasetSink.MemberRow> members = byCrew.get(crew.id());
+            assertThat(members).hasSize(crew.currentParticipants());
+            assertThat(crew.currentParticipants()).isBetween(1, crew.maxParticipants());
+            assertThat(members.getFirst().role()).isEqualTo(CrewRole.HOST);
+            assertThat(members.getFirst().userId()).isEqualTo(crew.hostId());
+            assertThat(members).allSatisfy(m -> assertThat(m.joinedAt()).isAfterOrEqualTo(crew.createdAt()));
+        }
+    }
+
+    @Test
+    @DisplayName("모임 규모와 사용자 참여가 한쪽으로 쏠리고, 모임 시각은 과거와 미래에 모두 걸친다")
+    void distributionsAreSkewed() {
+        CollectingSink sink = generate(properties(42, 10_000, 20_000));
+
+        long hostOnly = sink.crews.stream().filter(c -> c.currentParticipants() == 1).count();
+        long full = sink.crews.stream().filter(c -> c.currentParticipants() == c.maxParticipants()).count();
+        assertThat(hostOnly).isGreaterThan(sink.crews.size() / 5);
+        assertThat(full).isPositive().isLessThan(hostOnly);
+
+        // 상위 1% 사용자가 멤버십의 10% 이상을 차지한다 (균등이면 1%)
+        Map<Long, Integer> perUser = new HashMap<>();
+        sink.members.forEach(m -> perUser.merge(m.userId(), 1, Integer::sum));
+        int top = perUser.values().stream().sorted((a, b) -> b - a).limit(100).mapToInt(Integer::intValue).sum();
+        assertThat(top).isGreaterThan(sink.members.size() / 10);
+
+        long past = sink.crews.stream().filter(c -> c.meetingTime().isBefore(ANCHOR)).count();
+        assertThat(past).isBetween(sink.crews.size() / 2L, sink.crews.size() - 1L);
+    }
+
+    @Test
+    @DisplayName("모임 위치는 도심 코어에 몰린다: 절반 이상이 소수의 1km 격자 셀에 들어간다")
+    void crewsClusterAroundCityCores() {
+        CollectingSink sink = generate(properties(42, 1_000, 20_000));
+
+        Map<Long, Integer> perCell = new HashMap<>();
+        sink.crews.forEach(c -> perCell.merge(GeoCell.of(c.latitude(), c.longitude()), 1, Integer::sum));
+        List<Integer> counts = perCell.values().stream().sorted((a, b) -> b - a).toList();
+        int densest = counts.stream().limit(counts.size() / 10).mapToInt(Integer::intValue).sum();
+        assertThat(densest).isGreaterThan(sink.crews.size() / 2);
+    }
+
+    @Test
+    @DisplayName("JDBC 출력은 외래 키 순서대로 적재하고, 이후 IDENTITY INSERT가 생성된 ID와 겹치지 않는다")
+    void jdbcSinkLoadsSchema() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:dataset-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V1__init_schema.sql"),
+                new ClassPathResource("db/migration/V2__add_crew_geo_cell.sql"),
+                new ClassPathResource("db/migration/V4__add_crew_current_participants.sql")
+        ).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Summary summary;
+        try (JdbcDatasetSink sink = new JdbcDatasetSink(jdbcTemplate, 64)) {
+            summary = new DatasetGenerator(properties(42, 200, 300), ANCHOR, "{noop}password1234").generate(sink);
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM running_crews", Long.class)).isEqualTo(300L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM crew_members", Long.class))
+                .isEqualTo(summary.members());
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM running_crews c
+                WHERE c.current_participants <> (SELECT COUNT(*) FROM crew_members m WHERE m.crew_id = c.id)""",
+                Long.class)).isZero();
+
+        jdbcTemplate.update("INSERT INTO users (email, password, nickname) VALUES ('new@sole.com', 'x', 'new')");
+        assertThat(jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'new@sole.com'", Long.class))
+                .isEqualTo(201L);
+    }
+
+    private static CollectingSink generate(DatasetProperties properties) {
+        CollectingSink sink = new CollectingSink();
+        new DatasetGenerator(properties, ANCHOR, "{noop}password1234").generate(sink);
+        return sink;
+    }
+
+    private static DatasetProperties properties(long seed, int users, int crews) {
+        return new DatasetProperties(true, seed, users, crews, 30, 1.1, 0.8, Duration.ofDays(365), Duration.ofDays(90),
+                ANCHOR, "password1234", DatasetProperties.Output.DATABASE, 1000, Path.of("build/dataset"), false);
+    }
+
+    private static final class CollectingSink implements DatasetSink {
+
+        private final List<UserRow> users = new ArrayList<>();
+        private final List<CrewRow> crews = new ArrayList<>();
+        private final List<MemberRow> members = new ArrayList<>();
+
+        @Override
+        public void region(RegionRow row) {
+        }
+
+        @Override
+        public void user(UserRow row) {
+            users.add(row);
+        }
+
+        @Override
+        public void crew(CrewRow row) {
+            crews.add(row);
+        }
+
+        @Override
+        public void member(MemberRow row) {
+            members.add(row);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
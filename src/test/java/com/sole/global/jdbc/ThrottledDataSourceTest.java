@@ -0,0 +1,83 @@
+package com.sole.global.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThrottledDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private ThrottledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ThrottledDataSource(target, 1, Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("허가가 없으면 다른 스레드는 기다리다가 제한 시간 뒤 실패하고, 닫으면 허가가 돌아온다")
+    void waitsForPermitAndReleasesOnClose() throws Exception {
+        Connection held = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Connection> blocked = CompletableFuture.supplyAsync(() -> connect(), executor);
+            assertThatThrownBy(() -> blocked.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+
+            held.close();
+            held.close(); // 두 번 닫아도 허가는 한 번만 돌려준다
+            assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+            Connection next = CompletableFuture.supplyAsync(() -> connect(), executor).get(5, TimeUnit.SECONDS);
+            next.close();
+        }
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 스레드의 중첩 획득은 허가를 기다리지 않는다")
+    void nestedAcquisitionOnSameThreadDoesNotDeadlock() throws Exception {
+        Connection outer = dataSource.getConnection();
+        Connection inner = dataSource.getConnection();
+
+        inner.close();
+        assertThat(dataSource.availablePermits()).isZero();
+        outer.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대상 DataSource가 실패하면 받은 허가를 돌려준다")
+    void releasesPermitWhenTargetFails() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(target).getConnection();
+    }
+
+    private Connection connect() {
+        try {
+            return dataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
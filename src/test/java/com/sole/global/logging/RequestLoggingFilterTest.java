@@ -0,0 +1,115 @@
+package com.sole.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.sole.global.jdbc.SqlStatistics;
+import com.sole.global.jdbc.StatementCountingDataSource;
+import jakarta.servlet.ServletException;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestLoggingFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이면 빠른 성공 요청은 남기지 않고 4xx/5xx/예외 요청은 항상 남긴다")
+    void samplesOnlyFastSuccessfulRequests() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(
+                properties(0.0, Duration.ofSeconds(1), 20));
+
+        filter.doFilter(request("/api/v1/crews"), new MockHttpServletResponse(), (req, res) -> { });
+        filter.doFilter(request("/api/v1/crews/404"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(404));
+        filter.doFilter(request("/api/v1/crews/500"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(500));
+        assertThatThrownBy(() -> filter.doFilter(request("/api/v1/crews/boom"), new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new ServletException("boom");
+                })).isInstanceOf(ServletException.class);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel)
+                .containsExactly(Level.INFO, Level.WARN, Level.WARN);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("uri=/api/v1/crews/404");
+        assertThat(appender.list.get(2).getFormattedMessage()).contains("uri=/api/v1/crews/boom");
+        assertThat(MDC.get("traceId")).isNull();
+    }
+
+    @Test
+    @DisplayName("슬로우 요청은 샘플링과 관계없이 WARN으로 남고 traceId는 시간 순서 32자리 hex다")
+    void slowRequestsAreAlwaysLogged() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(
+                properties(0.0, Duration.ZERO, 20));
+        String[] traceIds = new String[2];
+
+        filter.doFilter(request("/a"), new MockHttpServletResponse(), (req, res) -> traceIds[0] = MDC.get("traceId"));
+        Thread.sleep(2);
+        filter.doFilter(request("/b"), new MockHttpServletResponse(), (req, res) -> traceIds[1] = MDC.get("traceId"));
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN, Level.WARN);
+        assertThat(traceIds[0]).matches("[0-9a-f]{32}");
+        assertThat(traceIds[1].substring(0, 12)).isGreaterThan(traceIds[0].substring(0, 12));
+    }
+
+    @Test
+    @DisplayName("요청 동안 실행한 SQL 문장/행 수를 함께 남기고 경로별 예산을 넘으면 WARN을 남긴다")
+    void reportsSqlStatisticsAndBudget() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:request-logging;DB_CLOSE_DELAY=-1", "sa", "")));
+        RequestLoggingFilter filter = new RequestLoggingFilter(new RequestLoggingProperties(
+                1.0, Duration.ofSeconds(1), 8192, true, 20, Map.of("POST /api/v1/crews/{crewId}/join", 2)));
+        MockHttpServletRequest join = new MockHttpServletRequest("POST", "/api/v1/crews/3/join");
+        join.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/crews/{crewId}/join");
+
+        filter.doFilter(join, new MockHttpServletResponse(), (req, res) -> {
+            jdbcTemplate.queryForList("SELECT X FROM SYSTEM_RANGE(1, 4)");
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+            // 세션 저장소처럼 uncounted로 감싼 SQL은 예산에 넣지 않는다
+            SqlStatistics.uncounted(() -> jdbcTemplate.queryForList("SELECT X FROM SYSTEM_RANGE(1, 2)"));
+        });
+        // 요청 밖에서 실행한 SQL은 세지 않는다
+        jdbcTemplate.queryForObject("SELECT 3", Integer.class);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.INFO, Level.WARN);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("sqlCount=3", "sqlRows=6");
+        assertThat(appender.list.get(1).getFormattedMessage())
+                .contains("route=POST /api/v1/crews/{crewId}/join", "sqlCount=3", "budget=2");
+    }
+
+    private RequestLoggingProperties properties(double sampleRate, Duration slowThreshold, int statementBudget) {
+        return new RequestLoggingProperties(sampleRate, slowThreshold, 8192, true, statementBudget, Map.of());
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sole.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sole.global.common.ErrorCode;
+import com.sole.global.exception.BusinessException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("해시 스레드와 대기열이 모두 차면 기다리지 않고 SERVER_BUSY로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(30))) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            while (encoder.queuedTasks() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> encoder.encode("c"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.SERVER_BUSY);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed-a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed-b");
+        }
+    }
+
+    @Test
+    @DisplayName("해시가 대기 시간 안에 끝나지 않으면 작업을 취소하고 SERVER_BUSY로 돌려준다")
+    void givesUpAfterWaitTimeout() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PasswordEncoder stuck = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return "never";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(stuck, 1, 1, Duration.ofMillis(50))) {
+            assertThatThrownBy(() -> encoder.encode("a"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.SERVER_BUSY);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 설정보다 낮으면 로그인 성공 시 새 cost로 다시 저장한다")
+    void rehashesOnLoginWhenStrengthIncreases() {
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+        UserDetails stored = User.withUsername("user@example.com").password(legacyHash).build();
+        AtomicReference<String> updated = new AtomicReference<>();
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 4,
+                Duration.ofSeconds(30))) {
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(username -> stored);
+            provider.setPasswordEncoder(encoder);
+            provider.setUserDetailsPasswordService((user, newPassword) -> {
+                updated.set(newPassword);
+                return User.withUserDetails(user).password(newPassword).build();
+            });
+
+            provider.authenticate(new UsernamePasswordAuthenticationToken("user@example.com", "password123"));
+
+            assertThat(updated.get()).startsWith("$2a$05$");
+            assertThat(encoder.matches("password123", updated.get())).isTrue();
+            assertThat(encoder.upgradeEncoding(updated.get())).isFalse();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.sole.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sole.domain.auth.dto.TokenResponse;
+import com.sole.domain.user.service.UserPrincipal;
+import com.sole.global.security.TokenClaims.TokenType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String SECRET = "test-secret-0123456789abcdefghijk";
+
+    private final AuthProperties properties = new AuthProperties(AuthProperties.Mode.TOKEN, SECRET,
+            Duration.ofMinutes(15), Duration.ofDays(14), 100);
+
+    @Test
+    @DisplayName("발급한 access 토큰을 검증하면 사용자 식별 정보를 그대로 돌려준다")
+    void issuedAccessTokenVerifies() {
+        TokenService tokenService = new TokenService(properties, Clock.fixed(NOW, ZoneOffset.UTC));
+        TokenResponse tokens = tokenService.issue(UserPrincipal.of(42L, "runner@example.com", "러너"), 7L, 2, 3);
+
+        TokenClaims claims = tokenService.verify(tokens.accessToken(), TokenType.ACCESS).orElseThrow();
+
+        assertThat(claims.toPrincipal().getId()).isEqualTo(42L);
+        assertThat(claims.email()).isEqualTo("runner@example.com");
+        assertThat(claims.nickname()).isEqualTo("러너");
+        assertThat(claims.familyId()).isEqualTo(7L);
+        assertThat(claims.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+        assertThat(tokens.accessTokenExpiresIn()).isEqualTo(900);
+        // 캐시된 claims로 다시 검증해도 종류는 구분한다
+        assertThat(tokenService.verify(tokens.accessToken(), TokenType.REFRESH)).isEmpty();
+        assertThat(tokenService.verify(tokens.refreshToken(), TokenType.REFRESH))
+                .get()
+                .satisfies(refresh -> {
+                    assertThat(refresh.userId()).isEqualTo(42L);
+                    assertThat(refresh.familyId()).isEqualTo(7L);
+                    assertThat(refresh.rotation()).isEqualTo(2);
+                    assertThat(refresh.tokenVersion()).isEqualTo(3);
+                });
+        assertThat(tokenService.verify(tokens.refreshToken(), TokenType.ACCESS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명이 다르거나 변조/만료된 토큰은 거부한다")
+    void rejectsTamperedForeignAndExpiredTokens() {
+        TokenService issuer = new TokenService(properties, Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = issuer.issue(UserPrincipal.of(1L, "a@example.com", "a"), 1L, 0, 0).accessToken();
+        String payload = token.substring(0, token.indexOf('.'));
+        String forged = (payload.charAt(2) == 'A' ? payload.replaceFirst("^(..).", "$1B") : payload.replaceFirst("^(..).", "$1A"))
+                + token.substring(token.indexOf('.'));
+
+        TokenService otherKey = new TokenService(new AuthProperties(AuthProperties.Mode.TOKEN, "other-secret-0123456789abcdefghijkl",
+                Duration.ofMinutes(15), Duration.ofDays(14), 100), Clock.fixed(NOW, ZoneOffset.UTC));
+        TokenService later = new TokenService(properties, Clock.fixed(NOW.plus(Duration.ofMinutes(16)), ZoneOffset.UTC));
+
+        assertThat(issuer.verify(forged, TokenType.ACCESS)).isEmpty();
+        assertThat(issuer.verify("not-a-token", TokenType.ACCESS)).isEmpty();
+        assertThat(otherKey.verify(token, TokenType.ACCESS)).isEmpty();
+        assertThat(later.verify(token, TokenType.ACCESS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 모드에서 비밀키가 없거나 32바이트보다 짧으면 생성에 실패한다")
+    void tokenModeRequiresSharedSecret() {
+        assertThatThrownBy(() -> new TokenService(withSecret(null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must be set");
+        assertThatThrownBy(() -> new TokenService(withSecret("too-short-secret")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least 32 bytes");
+        // 세션 모드는 토큰을 쓰지 않으므로 비밀키 없이도 뜬다
+        assertThat(new TokenService(new AuthProperties(AuthProperties.Mode.SESSION, null,
+                Duration.ofMinutes(15), Duration.ofDays(14), 100)).isEnabled()).isFalse();
+    }
+
+    private static AuthProperties withSecret(String secret) {
+        return new AuthProperties(AuthProperties.Mode.TOKEN, secret, Duration.ofMinutes(15), Duration.ofDays(14), 100);
+    }
+}
@@ -0,0 +1,124 @@
+package com.sole.global.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.service.UserPrincipal;
+import com.sole.global.session.JdbcSessionRepository.JdbcSession;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JdbcSessionRepositoryTest {
+
+    private static final String CONTEXT_ATTRIBUTE = "SPRING_SECURITY_CONTEXT";
+
+    private JdbcTemplate jdbcTemplate;
+    private SessionStoreProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sessions-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V5__create_sessions.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        properties = new SessionStoreProperties(SessionStoreProperties.Store.JDBC, Duration.ofMinutes(30),
+                Duration.ofSeconds(5), 100, Duration.ofMinutes(1), Duration.ofSeconds(5), Duration.ofMinutes(1), 3);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 로그인한 세션을 다른 노드가 DB에서 읽어 같은 사용자로 인식한다")
+    void sessionIsSharedAcrossNodes() {
+        JdbcSessionRepository nodeA = new JdbcSessionRepository(jdbcTemplate, properties);
+        JdbcSessionRepository nodeB = new JdbcSessionRepository(jdbcTemplate, properties);
+
+        JdbcSession session = nodeA.createSession();
+        session.setAttribute(CONTEXT_ATTRIBUTE, authenticatedContext(42L));
+        nodeA.save(session);
+
+        JdbcSession loaded = nodeB.findById(session.getId());
+        SecurityContext context = loaded.getAttribute(CONTEXT_ATTRIBUTE);
+        UserPrincipal principal = (UserPrincipal) context.getAuthentication().getPrincipal();
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getNickname()).isEqualTo("러너");
+
+        nodeB.deleteById(session.getId());
+        assertThat(nodeB.findById(session.getId())).isNull();
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    @DisplayName("속성 변경 없는 요청은 바로 쓰지 않고, touch 간격이 지난 접근 시각만 모아 배치로 기록한다")
+    void accessTimeIsWrittenBehind() {
+        JdbcSessionRepository repository = new JdbcSessionRepository(jdbcTemplate, properties);
+        JdbcSession session = repository.createSession();
+        session.setAttribute(CONTEXT_ATTRIBUTE, authenticatedContext(1L));
+        repository.save(session);
+        long created = lastAccessMillis(session.getId());
+
+        JdbcSession sameMinute = repository.findById(session.getId());
+        sameMinute.setLastAccessedTime(Instant.ofEpochMilli(created).plusSeconds(30));
+        repository.save(sameMinute);
+        repository.flushTouches();
+        assertThat(lastAccessMillis(session.getId())).isEqualTo(created);
+
+        JdbcSession later = repository.findById(session.getId());
+        Instant twoMinutesLater = Instant.ofEpochMilli(created).plusSeconds(120);
+        later.setLastAccessedTime(twoMinutesLater);
+        repository.save(later);
+        assertThat(lastAccessMillis(session.getId())).isEqualTo(created);
+
+        repository.flushTouches();
+        assertThat(lastAccessMillis(session.getId())).isEqualTo(twoMinutesLater.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 배치 크기 단위로 나눠 모두 지우고 유효한 세션은 남긴다")
+    void expiredSessionsAreDeletedInBatches() {
+        JdbcSessionRepository repository = new JdbcSessionRepository(jdbcTemplate, properties);
+        for (int i = 0; i < 7; i++) {
+            JdbcSession expired = repository.createSession();
+            expired.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+            repository.save(expired);
+        }
+        JdbcSession active = repository.createSession();
+        repository.save(active);
+
+        int deleted = repository.deleteExpired(System.currentTimeMillis());
+
+        assertThat(deleted).isEqualTo(7);
+        assertThat(count()).isEqualTo(1);
+        assertThat(repository.findById(active.getId())).isNotNull();
+    }
+
+    private SecurityContext authenticatedContext(Long userId) {
+        User user = User.builder()
+                .email("runner" + userId + "@example.com")
+                .password("$2a$10$hash")
+                .nickname("러너")
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        UserPrincipal principal = UserPrincipal.from(user);
+        principal.eraseCredentials();
+        return new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    private long lastAccessMillis(String id) {
+        return jdbcTemplate.queryForObject("SELECT last_access_time FROM sessions WHERE session_id = ?", Long.class, id);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sessions", Integer.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sole.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BatchDistanceTest {
+
+    private static final double BASE_LAT = 37.5665;
+    private static final double BASE_LNG = 126.9780;
+
+    @Test
+    @DisplayName("배치 필터 결과가 후보마다 haversine을 계산한 결과와 같다")
+    void matchesPerCandidateHaversine() {
+        Random random = new Random(11);
+        int count = 10_003;
+        double[] lats = new double[count];
+        double[] lngs = new double[count];
+        for (int i = 0; i < count; i++) {
+            lats[i] = BASE_LAT + (random.nextDouble() - 0.5) * 0.2;
+            lngs[i] = BASE_LNG + (random.nextDouble() - 0.5) * 0.2;
+        }
+
+        for (double radiusKm : new double[]{0.5, 3.0, 8.0, 30_000.0}) {
+            int[] indexes = new int[count];
+            double[] distances = new double[count];
+            int found = BatchDistance.withinRadius(BASE_LAT, BASE_LNG, radiusKm, lats, lngs, count, indexes, distances);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                if (DistanceCalculator.haversineKm(BASE_LAT, BASE_LNG, lats[i], lngs[i]) <= radiusKm) {
+                    expected.add(i);
+                }
+            }
+            assertThat(found).isEqualTo(expected.size());
+            for (int i = 0; i < found; i++) {
+                assertThat(indexes[i]).isEqualTo(expected.get(i));
+                assertThat(distances[i]).isCloseTo(
+                        DistanceCalculator.haversineKm(BASE_LAT, BASE_LNG, lats[indexes[i]], lngs[indexes[i]]),
+                        within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("사전 검사 하한은 날짜변경선/극지방을 포함해 실제 haversine 값을 넘지 않는다")
+    void lowerBoundNeverExceedsExactValue() {
+        Random random = new Random(29);
+        int count = 4_099;
+        double[] lats = new double[count];
+        double[] lngs = new double[count];
+        for (int i = 0; i < count; i++) {
+            lats[i] = random.nextDouble() * 180 - 90;
+            lngs[i] = random.nextDouble() * 360 - 180;
+        }
+
+        for (double[] origin : new double[][]{{BASE_LAT, BASE_LNG}, {-33.8, 179.9}, {89.5, -10.0}}) {
+            double lat = origin[0];
+            double lng = origin[1];
+            double cosLat = Math.cos(Math.toRadians(lat));
+            double absSinLat = Math.abs(Math.sin(Math.toRadians(lat)));
+            double[] lowerBounds = new double[count];
+            BatchDistance.lowerBounds(lat, lng, cosLat, absSinLat, lats, lngs, count, lowerBounds);
+
+            for (int i = 0; i < count; i++) {
+                double halfAngle = DistanceCalculator.haversineKm(lat, lng, lats[i], lngs[i])
+                        / DistanceCalculator.earthRadiusKm() / 2;
+                double exact = Math.pow(Math.sin(halfAngle), 2);
+                assertThat(lowerBounds[i]).isLessThanOrEqualTo(exact + 1e-15);
+            }
+        }
+    }
+}
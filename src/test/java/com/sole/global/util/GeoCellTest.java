@@ -0,0 +1,46 @@
+package com.sole.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoCellTest {
+
+    @Test
+    @DisplayName("같은 행에서 이웃한 경도 셀은 연속된 ID를 가진다")
+    void neighbouringColumnsAreContiguous() {
+        long cell = GeoCell.of(37.5665, 126.9780);
+        long east = GeoCell.of(37.5665, 126.9780 + GeoCell.CELL_SIZE_DEGREES);
+
+        assertThat(east).isEqualTo(cell + 1);
+    }
+
+    @Test
+    @DisplayName("바운딩 박스 안의 모든 좌표는 셀 구간 중 하나에 포함된다")
+    void rangesCoverEveryPointInsideBox() {
+        double minLat = 37.52, maxLat = 37.61, minLng = 126.92, maxLng = 127.03;
+        List<GeoCell.Range> ranges = GeoCell.rangesCovering(minLat, maxLat, minLng, maxLng);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            double lat = minLat + random.nextDouble() * (maxLat - minLat);
+            double lng = minLng + random.nextDouble() * (maxLng - minLng);
+            long cell = GeoCell.of(lat, lng);
+            assertThat(ranges).anySatisfy(range ->
+                    assertThat(cell).isBetween(range.from(), range.to()));
+        }
+    }
+
+    @Test
+    @DisplayName("행이 너무 많으면 위도 띠 전체를 하나의 구간으로 돌려준다")
+    void wideBoxFallsBackToSingleBand() {
+        List<GeoCell.Range> ranges = GeoCell.rangesCovering(30.0, 40.0, 120.0, 130.0);
+
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).from()).isLessThanOrEqualTo(GeoCell.of(30.0, -180.0));
+        assertThat(ranges.get(0).to()).isGreaterThanOrEqualTo(GeoCell.of(40.0, 180.0));
+    }
+}
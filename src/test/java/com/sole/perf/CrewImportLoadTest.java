@@ -0,0 +1,143 @@
+package com.sole.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.dto.CrewCreateRequest;
+import com.sole.domain.crew.dto.CrewImportResponse;
+import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.crew.service.CrewCsvParser;
+import com.sole.domain.crew.service.CrewImportService;
+import com.sole.domain.crew.service.CrewService;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 일괄 등록 처리량 측정: CSV 파싱 + JDBC 배치 등록(기본 10만 행)을 단건 createCrew 반복과 비교한다
+// -Dperf.importRows, -Dperf.baselineRows로 행 수를 바꾼다
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CrewImportLoadTest {
+
+    @Autowired
+    private CrewImportService crewImportService;
+    @Autowired
+    private CrewService crewService;
+    @Autowired
+    private RegionRepository regionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RunningCrewRepository runningCrewRepository;
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+
+    private User host;
+    private Region region;
+
+    @BeforeAll
+    void setUpData() {
+        if (!Boolean.getBoolean("perf.enabled")) {
+            Assumptions.assumeTrue(false, "Set -Dperf.enabled=true to run this manual perf test.");
+        }
+        region = regionRepository.save(new Region("서울시", "중구"));
+        host = userRepository.save(User.builder()
+                .email("partner@test.com")
+                .password("password")
+                .nickname("partner")
+                .region(region)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build());
+    }
+
+    @AfterAll
+    void tearDown() {
+        crewMemberRepository.deleteAllInBatch();
+        runningCrewRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        regionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void importThroughput() throws Exception {
+        int importRows = Integer.parseInt(System.getProperty("perf.importRows", "100000"));
+        int baselineRows = Integer.parseInt(System.getProperty("perf.baselineRows", "2000"));
+
+        // 단건 API: 행마다 모임 INSERT + 호스트 멤버 INSERT
+        List<CrewCreateRequest> baseline = rows(baselineRows, new Random(7));
+        long start = System.nanoTime();
+        for (CrewCreateRequest row : baseline) {
+            crewService.createCrew(host.getId(), row);
+        }
+        double baselineSeconds = (System.nanoTime() - start) / 1e9;
+
+        String csv = csv(rows(importRows, new Random(42)));
+        start = System.nanoTime();
+        CrewCsvParser.Result parsed = CrewCsvParser.parse(new StringReader(csv), importRows);
+        double parseSeconds = (System.nanoTime() - start) / 1e9;
+        start = System.nanoTime();
+        CrewImportResponse response = crewImportService.importCrews(host.getId(), parsed.rows(), parsed.errors());
+        double importSeconds = (System.nanoTime() - start) / 1e9;
+
+        assertThat(response.imported()).isEqualTo(importRows);
+        System.out.printf("""
+                        === Crew import throughput ===
+                        createCrew x %d: %.2f s (%.0f rows/s)
+                        bulk import x %d: parse %.2f s, insert %.2f s (%.0f rows/s)
+                        """,
+                baselineRows, baselineSeconds, baselineRows / baselineSeconds,
+                importRows, parseSeconds, importSeconds, importRows / (parseSeconds + importSeconds));
+    }
+
+    private List<CrewCreateRequest> rows(int count, Random random) {
+        List<CrewCreateRequest> rows = new ArrayList<>(count);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 6, 0);
+        for (int i = 0; i < count; i++) {
+            rows.add(new CrewCreateRequest(
+                    "파트너 크루 " + i,
+                    "partner feed",
+                    region.getId(),
+                    base.plusHours(i % 720),
+                    "서울역 인근",
+                    37.55 + (random.nextDouble() - 0.5) * 0.2,
+                    126.97 + (random.nextDouble() - 0.5) * 0.2,
+                    10 + i % 10,
+                    PreferredLevel.values()[i % PreferredLevel.values().length]
+            ));
+        }
+        return rows;
+    }
+
+    private String csv(List<CrewCreateRequest> rows) {
+        StringBuilder csv = new StringBuilder(
+                "title,description,regionId,meetingTime,place,latitude,longitude,maxParticipants,level\n");
+        for (CrewCreateRequest row : rows) {
+            csv.append(row.title()).append(',')
+                    .append(row.description()).append(',')
+                    .append(row.regionId()).append(',')
+                    .append(row.meetingTime()).append(',')
+                    .append(row.place()).append(',')
+                    .append(row.latitude()).append(',')
+                    .append(row.longitude()).append(',')
+                    .append(row.maxParticipants()).append(',')
+                    .append(row.level()).append('\n');
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sole.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 부하 실행 결과. 같은 내용을 콘솔 요약과 JSON 파일(실행 간 비교/CI 수집용)로 남긴다.
+ * 지연은 예정 발송 시각부터 응답 완료까지이고 실패 응답도 포함한다. 단위는 ms.
+ */
+record LoadReport(
+        String target,
+        String startedAt,
+        double ratePerSecond,
+        double warmupSeconds,
+        double durationSeconds,
+        double elapsedSeconds,
+        long issued,
+        long dropped,
+        double maxSchedulerLagMs,
+        Summary total,
+        List<Summary> scenarios
+) {
+
+    /**
+     * outcomes는 상태 코드(또는 "error:예외 이름")별 건수, dropped는 동시 요청 상한에 걸려 보내지 못한 건수다.
+     */
+    record Summary(
+            String name,
+            int weight,
+            long count,
+            long errors,
+            long dropped,
+            double throughputPerSecond,
+            Map<String, Long> outcomes,
+            Latency latencyMs
+    ) {
+    }
+
+    record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram nanos) {
+            if (nanos.getTotalCount() == 0) {
+                return new Latency(0, 0, 0, 0, 0, 0);
+            }
+            return new Latency(
+                    millis(nanos.getMean()),
+                    millis(nanos.getValueAtPercentile(50)),
+                    millis(nanos.getValueAtPercentile(90)),
+                    millis(nanos.getValueAtPercentile(99)),
+                    millis(nanos.getValueAtPercentile(99.9)),
+                    millis(nanos.getMaxValue())
+            );
+        }
+
+        private static double millis(double nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+
+    void writeTo(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        JsonMapper.builder()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build()
+                .writeValue(path.toFile(), this);
+    }
+
+    String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("""
+                        === Load report ===
+                        target: %s
+                        rate: %.0f/s, warmup: %.0fs, measured: %.0fs (elapsed %.1fs)
+                        issued: %d, dropped: %d, max scheduler lag: %.2f ms
+                        """,
+                target, ratePerSecond, warmupSeconds, durationSeconds, elapsedSeconds,
+                issued, dropped, maxSchedulerLagMs));
+        text.append(String.format("%-12s %8s %7s %8s %9s %9s %9s %9s %9s%n",
+                "scenario", "count", "errors", "rps", "p50", "p90", "p99", "p99.9", "max"));
+        for (Summary summary : scenarios) {
+            append(text, summary);
+        }
+        append(text, total);
+        return text.toString();
+    }
+
+    private static void append(StringBuilder text, Summary summary) {
+        Latency latency = summary.latencyMs();
+        text.append(String.format("%-12s %8d %7d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                summary.name(), summary.count(), summary.errors(), summary.throughputPerSecond(),
+                latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max(), summary.outcomes()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.sole.perf;
+
+/**
+ * 부하 시나리오: 이름, 혼합 비율(weight), 한 번 실행하는 동작.
+ * 동작은 마지막(또는 처음 실패한) HTTP 상태 코드를 돌려주고, 2xx만 성공으로 센다.
+ */
+record LoadScenario(String name, int weight, Action action) {
+
+    LoadScenario {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive: " + name);
+        }
+    }
+
+    @FunctionalInterface
+    interface Action {
+
+        int execute() throws Exception;
+    }
+}
@@ -0,0 +1,327 @@
+package com.sole.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sole.domain.crew.entity.RunningCrew;
+import com.sole.domain.crew.repository.CrewMemberRepository;
+import com.sole.domain.crew.repository.RunningCrewRepository;
+import com.sole.domain.region.entity.Region;
+import com.sole.domain.region.repository.RegionRepository;
+import com.sole.domain.user.entity.PreferredLevel;
+import com.sole.domain.user.entity.User;
+import com.sole.domain.user.repository.UserRepository;
+import com.sole.perf.SoleLoadClient.VirtualUser;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * 혼합 시나리오 부하 테스트 (수동 실행: -Dperf.enabled=true).
+ * 익명 주변 검색, 로그인, 목록(페이지/스크롤), 상세, 참여/탈퇴를 가중치대로 섞어 고정 도착률로 보내고
+ * 시나리오별 지연 분포를 JSON 리포트로 남긴다.
+ * <p>
+ * 대상
+ * - 기본: 이 JVM에 띄운 앱 + H2 (모임이 없으면 perf.crews건을 심고 끝나면 지운다)
+ * - -Dperf.profile=local: 이 JVM에 띄운 앱 + 로컬 MySQL (비어 있을 때만 심고 지우지 않는다)
+ * - -Dperf.baseUrl=http://host:port: 이미 떠 있는 앱 (데이터는 미리 준비돼 있어야 한다)
+ * <p>
+ * 주요 옵션: perf.rate(초당 요청, 50), perf.warmup(PT5S), perf.duration(PT30S),
+ * perf.mix("nearby=40,detail=20,list=15,scroll=10,join-leave=10,login=5"), perf.users(50), perf.crews(500),
+ * perf.center("37.55,126.97"), perf.maxInFlight(5000), perf.requestTimeoutSeconds(10), perf.seed(42),
+ * perf.report(build/reports/load/mixed-시각.json). -Dperf.virtualThreads=true면 서버도 가상 스레드로 띄운다.
+ * 요청 로그는 Gradle 표준 출력 캡처가 병목이 되지 않도록 기본으로 슬로우/오류만 남긴다(perf.logSampleRate).
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=${perf.virtualThreads:false}",
+                "sole.logging.request.sample-rate=${perf.logSampleRate:0.0}",
+                "management.server.port=0"
+        }
+)
+@ActiveProfiles(resolver = MixedScenarioLoadTest.PerfProfileResolver.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MixedScenarioLoadTest {
+
+    private static final String PASSWORD = "perf-password-1";
+    private static final String DEFAULT_MIX = "nearby=40,detail=20,list=15,scroll=10,join-leave=10,login=5";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RegionRepository regionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RunningCrewRepository runningCrewRepository;
+    @Autowired
+    private CrewMemberRepository crewMemberRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    private String baseUrl;
+    private boolean seeded;
+    private double centerLat;
+    private double centerLng;
+    private SoleLoadClient client;
+    private List<VirtualUser> users;
+    private List<Long> crewIds;
+
+    public static final class PerfProfileResolver implements ActiveProfilesResolver {
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return new String[]{System.getProperty("perf.profile", "test")};
+        }
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        if (!Boolean.getBoolean("perf.enabled")) {
+            Assumptions.assumeTrue(false, "Set -Dperf.enabled=true to run this manual perf test.");
+        }
+        String[] center = System.getProperty("perf.center", "37.55,126.97").split(",");
+        centerLat = Double.parseDouble(center[0]);
+        centerLng = Double.parseDouble(center[1]);
+        baseUrl = System.getProperty("perf.baseUrl", "http://localhost:" + port);
+        client = new SoleLoadClient(baseUrl, Duration.ofSeconds(Long.getLong("perf.requestTimeoutSeconds", 10)));
+
+        if (System.getProperty("perf.baseUrl") == null && runningCrewRepository.count() == 0) {
+            seedCrews(Integer.getInteger("perf.crews", 500));
+            seeded = true;
+        }
+        users = signUpUsers(Integer.getInteger("perf.users", 50));
+        crewIds = discoverCrewIds(users.getFirst(), Integer.getInteger("perf.crews", 500));
+        assertThat(crewIds).as("target has no crews; seed data first").isNotEmpty();
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        // 로컬 MySQL처럼 공유 DB일 수 있으므로 H2에서 직접 심은 경우에만 지운다
+        if (seeded && "test".equals(System.getProperty("perf.profile", "test"))) {
+            awaitServerDrained();
+            crewMemberRepository.deleteAllInBatch();
+            runningCrewRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+            regionRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    void mixedScenarios() throws Exception {
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(
+                Double.parseDouble(System.getProperty("perf.rate", "50")),
+                Duration.parse(System.getProperty("perf.warmup", "PT5S")),
+                Duration.parse(System.getProperty("perf.duration", "PT30S")),
+                Integer.getInteger("perf.maxInFlight", 5000),
+                Long.getLong("perf.seed", 42),
+                scenarios(System.getProperty("perf.mix", DEFAULT_MIX))
+        );
+
+        LoadReport report = generator.run(baseUrl);
+
+        Path path = Path.of(System.getProperty("perf.report", "build/reports/load/mixed-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+        report.writeTo(path);
+        System.out.print(report.toText());
+        System.out.println("report: " + path.toAbsolutePath());
+        assertThat(report.total().count() - report.total().errors()).as("successful requests").isPositive();
+    }
+
+    private List<LoadScenario> scenarios(String mix) {
+        Map<String, LoadScenario.Action> actions = new LinkedHashMap<>();
+        actions.put("nearby", this::nearby);
+        actions.put("detail", this::detail);
+        actions.put("list", this::list);
+        actions.put("scroll", this::scroll);
+        actions.put("join-leave", joinLeave());
+        actions.put("login", this::login);
+
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.strip().split("=");
+            LoadScenario.Action action = actions.get(nameAndWeight[0]);
+            if (action == null) {
+                throw new IllegalArgumentException("unknown scenario " + nameAndWeight[0] + ", known: " + actions.keySet());
+            }
+            scenarios.add(new LoadScenario(nameAndWeight[0], Integer.parseInt(nameAndWeight[1]), action));
+        }
+        return scenarios;
+    }
+
+    // 익명: 중심에서 약 ±2km 안의 임의 지점, 반경 3km
+    private int nearby() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double lat = centerLat + (random.nextDouble() - 0.5) * 0.04;
+        double lng = centerLng + (random.nextDouble() - 0.5) * 0.04;
+        return client.get("/api/v1/crews/nearby?latitude=%.5f&longitude=%.5f&radiusKm=3".formatted(lat, lng),
+                VirtualUser.ANONYMOUS).statusCode();
+    }
+
+    private int detail() throws Exception {
+        return client.get("/api/v1/crews/" + randomCrewId(), randomUser()).statusCode();
+    }
+
+    // 앞쪽 페이지에 몰리는 실제 이용 패턴을 흉내 내 0~4쪽을 고른다
+    private int list() throws Exception {
+        int page = ThreadLocalRandom.current().nextInt(5);
+        return client.get("/api/v1/crews?page=" + page + "&size=20", randomUser()).statusCode();
+    }
+
+    // 첫 화면 + nextCursor로 한 번 더
+    private int scroll() throws Exception {
+        VirtualUser user = randomUser();
+        HttpResponse<byte[]> first = client.get("/api/v1/crews/scroll?size=20", user);
+        String cursor = SoleLoadClient.body(first).path("data").path("nextCursor").asString(null);
+        if (first.statusCode() != 200 || cursor == null) {
+            return first.statusCode();
+        }
+        return client.get("/api/v1/crews/scroll?size=20&cursor=" + cursor, user).statusCode();
+    }
+
+    // 같은 사용자의 참여/탈퇴가 겹치면 중복 참여 오류가 나므로 쉬고 있는 사용자만 꺼내 쓴다
+    private LoadScenario.Action joinLeave() {
+        Queue<VirtualUser> idle = new ConcurrentLinkedQueue<>(users);
+        return () -> {
+            VirtualUser user = idle.poll();
+            if (user == null) {
+                throw new IllegalStateException("no idle user; raise perf.users");
+            }
+            try {
+                long crewId = randomCrewId();
+                int joined = client.post("/api/v1/crews/" + crewId + "/join", user, null).statusCode();
+                if (joined != 200) {
+                    return joined;
+                }
+                return client.post("/api/v1/crews/" + crewId + "/leave", user, null).statusCode();
+            } finally {
+                idle.offer(user);
+            }
+        };
+    }
+
+    // 비밀번호 해시 검증 비용이 포함된다 (새 세션은 버린다)
+    private int login() throws Exception {
+        VirtualUser user = randomUser();
+        return client.login(user.email(), user.password()).statusCode();
+    }
+
+    // 과부하로 끝나면 클라이언트가 타임아웃으로 포기한 요청이 서버에 남아 커넥션을 잡고 있으므로 다 빠진 뒤 지운다
+    private void awaitServerDrained() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while ((pool.getActiveConnections() > 0 || pool.getThreadsAwaitingConnection() > 0)
+                && System.nanoTime() - deadline < 0) {
+            Thread.sleep(200);
+        }
+    }
+
+    private VirtualUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    private long randomCrewId() {
+        return crewIds.get(ThreadLocalRandom.current().nextInt(crewIds.size()));
+    }
+
+    // 가입/로그인은 해시 비용이 커서 서버의 해시 대기열을 넘지 않도록 8개씩만 동시에 보낸다
+    private List<VirtualUser> signUpUsers(int count) throws Exception {
+        Semaphore permits = new Semaphore(8);
+        List<Future<VirtualUser>> futures = new ArrayList<>(count);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                String name = "perf-" + i;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return client.signUpAndLogin(name + "@perf.test", PASSWORD, name);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        List<VirtualUser> result = new ArrayList<>(count);
+        for (Future<VirtualUser> future : futures) {
+            result.add(future.get());
+        }
+        return result;
+    }
+
+    private List<Long> discoverCrewIds(VirtualUser user, int limit) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            HttpResponse<byte[]> response = client.get("/api/v1/crews/scroll?size=100"
+                    + (cursor == null ? "" : "&cursor=" + cursor), user);
+            JsonNode data = SoleLoadClient.body(response).path("data");
+            for (JsonNode crew : data.path("content")) {
+                ids.add(crew.path("id").asLong());
+            }
+            cursor = data.path("nextCursor").asString(null);
+        } while (cursor != null && ids.size() < limit);
+        return ids.size() > limit ? ids.subList(0, limit) : ids;
+    }
+
+    // 정원은 넉넉히 잡아 참여/탈퇴가 정원 초과로 실패하지 않게 한다
+    private void seedCrews(int count) {
+        Region region = regionRepository.save(new Region("서울시", "중구"));
+        User host = userRepository.save(User.builder()
+                .email("perf-host@perf.test")
+                .password("{noop}unused")
+                .nickname("perf-host")
+                .region(region)
+                .preferredLevel(PreferredLevel.BEGINNER)
+                .build());
+
+        Random random = new Random(Long.getLong("perf.seed", 42));
+        List<RunningCrew> crews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 60%는 중심 ±2.2km, 나머지는 ±8.9km에 흩뿌린다
+            double spread = i % 5 < 3 ? 0.04 : 0.16;
+            crews.add(RunningCrew.builder()
+                    .title("크루" + i)
+                    .description("seeded crew")
+                    .host(host)
+                    .region(region)
+                    .meetingTime(LocalDateTime.now().plusDays(1 + i % 30))
+                    .place("서울역 인근")
+                    .latitude(centerLat + (random.nextDouble() - 0.5) * spread)
+                    .longitude(centerLng + (random.nextDouble() - 0.5) * spread)
+                    .maxParticipants(10_000)
+                    .level(PreferredLevel.values()[i % PreferredLevel.values().length])
+                    .build());
+        }
+        runningCrewRepository.saveAll(crews);
+    }
+}
@@ -0,0 +1,184 @@
+package com.sole.perf;
+
+import com.sole.perf.LoadReport.Latency;
+import com.sole.perf.LoadReport.Summary;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 고정 도착률(open-loop) 부하 발생기.
+ * i번째 요청은 시작 시각 + i / rate에 보내기로 예정되고, 지연은 그 예정 시각부터 응답 완료까지 잰다.
+ * 서버가 느려져도 다음 요청을 미루지 않으므로(closed-loop와 달리) 밀린 시간이 그대로 지연에 잡혀
+ * coordinated omission이 생기지 않는다. 요청마다 가상 스레드 하나를 쓰고 시나리오별 HdrHistogram에 기록한다.
+ * <p>
+ * warmup 동안 보낸 요청은 기록하지 않는다. 동시 요청이 maxInFlight를 넘으면 보내지 않고 dropped로 센다
+ * (발생기 자신이 무너지지 않게 하는 안전장치라, 0이 아니면 목표 도착률을 서버가 감당하지 못한 것이다).
+ */
+final class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final double ratePerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+    private final long seed;
+    private final List<LoadScenario> scenarios;
+
+    OpenLoopLoadGenerator(double ratePerSecond, Duration warmup, Duration duration, int maxInFlight, long seed,
+                          List<LoadScenario> scenarios) {
+        if (ratePerSecond <= 0 || scenarios.isEmpty()) {
+            throw new IllegalArgumentException("rate must be positive and at least one scenario is required");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+        this.seed = seed;
+        this.scenarios = List.copyOf(scenarios);
+    }
+
+    LoadReport run(String target) {
+        List<Stats> stats = scenarios.stream().map(Stats::new).toList();
+        int[] cumulativeWeights = new int[stats.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < stats.size(); i++) {
+            totalWeight += scenarios.get(i).weight();
+            cumulativeWeights[i] = totalWeight;
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double intervalNanos = 1e9 / ratePerSecond;
+        long issued = 0;
+        long maxLagNanos = 0;
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * intervalNanos);
+                if (intended - end >= 0) {
+                    break;
+                }
+                long now = parkUntil(intended);
+                boolean measured = intended - measureFrom >= 0;
+                if (measured) {
+                    maxLagNanos = Math.max(maxLagNanos, now - intended);
+                }
+
+                Stats scenario = stats.get(pick(cumulativeWeights, random.nextInt(totalWeight)));
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        scenario.dropped.increment();
+                    }
+                    continue;
+                }
+                issued++;
+                executor.execute(() -> {
+                    String outcome;
+                    try {
+                        outcome = Integer.toString(scenario.scenario.action().execute());
+                    } catch (Exception e) {
+                        outcome = "error:" + e.getClass().getSimpleName();
+                    } finally {
+                        inFlight.release();
+                    }
+                    if (measured) {
+                        scenario.record(outcome, System.nanoTime() - intended);
+                    }
+                });
+            }
+        } // close()가 남은 요청이 끝날 때까지 기다린다
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        double measuredSeconds = duration.toNanos() / 1e9;
+        List<Summary> summaries = new ArrayList<>(stats.size());
+        Histogram all = newHistogram();
+        Map<String, Long> allOutcomes = new TreeMap<>();
+        long allErrors = 0;
+        long allDropped = 0;
+        for (Stats s : stats) {
+            Summary summary = s.summarize(measuredSeconds);
+            summaries.add(summary);
+            all.add(s.latency);
+            summary.outcomes().forEach((outcome, count) -> allOutcomes.merge(outcome, count, Long::sum));
+            allErrors += summary.errors();
+            allDropped += summary.dropped();
+        }
+        Summary total = new Summary("total", totalWeight, all.getTotalCount(), allErrors, allDropped,
+                all.getTotalCount() / measuredSeconds, allOutcomes, Latency.of(all));
+
+        return new LoadReport(target, startedAt.toString(), ratePerSecond, warmup.toNanos() / 1e9, measuredSeconds,
+                elapsedSeconds, issued, allDropped, maxLagNanos / 1e6, total, summaries);
+    }
+
+    private static int pick(int[] cumulativeWeights, int value) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static long parkUntil(long deadline) {
+        long now;
+        while ((now = System.nanoTime()) - deadline < 0) {
+            LockSupport.parkNanos(deadline - now);
+        }
+        return now;
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    private static final class Stats {
+
+        private final LoadScenario scenario;
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        private final LongAdder dropped = new LongAdder();
+
+        Stats(LoadScenario scenario) {
+            this.scenario = scenario;
+        }
+
+        void record(String outcome, long latencyNanos) {
+            latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            outcomes.computeIfAbsent(outcome, o -> new LongAdder()).increment();
+        }
+
+        Summary summarize(double measuredSeconds) {
+            Map<String, Long> counts = new TreeMap<>();
+            long errors = 0;
+            for (Map.Entry<String, LongAdder> entry : outcomes.entrySet()) {
+                long count = entry.getValue().sum();
+                counts.put(entry.getKey(), count);
+                if (!entry.getKey().startsWith("2")) {
+                    errors += count;
+                }
+            }
+            return new Summary(scenario.name(), scenario.weight(), latency.getTotalCount(), errors, dropped.sum(),
+                    latency.getTotalCount() / measuredSeconds, counts, Latency.of(latency));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sole.perf;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 부하 시나리오용 HTTP 클라이언트. 쿠키 저장소 없이 VirtualUser가 들고 있는 인증 헤더를 요청마다 붙여
+ * 한 클라이언트로 여러 사용자 세션을 흉내 낸다.
+ * 세션 모드는 로그인 응답의 세션 쿠키를, 토큰 모드(sole.security.auth.mode=token)는 access 토큰을 쓴다.
+ */
+final class SoleLoadClient {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final HttpClient http;
+
+    SoleLoadClient(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 인증된 가상 사용자. header가 null이면 익명이다.
+     */
+    record VirtualUser(String email, String password, String header, String headerValue) {
+
+        static final VirtualUser ANONYMOUS = new VirtualUser(null, null, null, null);
+    }
+
+    /**
+     * 가입(이미 있으면 건너뜀) 후 로그인해 인증 헤더를 가진 사용자를 돌려준다.
+     */
+    VirtualUser signUpAndLogin(String email, String password, String nickname) throws IOException, InterruptedException {
+        HttpResponse<byte[]> signUp = post("/api/v1/auth/signup", VirtualUser.ANONYMOUS, """
+                {"email":"%s","password":"%s","nickname":"%s","preferredLevel":"BEGINNER"}"""
+                .formatted(email, password, nickname));
+        if (signUp.statusCode() != 200 && !"DUPLICATED_EMAIL".equals(body(signUp).path("code").asString())) {
+            throw new IllegalStateException("signup failed " + signUp.statusCode() + " " + email);
+        }
+
+        HttpResponse<byte[]> login = login(email, password);
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("login failed " + login.statusCode() + " " + email);
+        }
+        JsonNode token = body(login).path("data").path("token");
+        if (!token.isMissingNode() && !token.isNull()) {
+            return new VirtualUser(email, password, "Authorization", "Bearer " + token.path("accessToken").asString());
+        }
+        String cookie = login.headers().firstValue("Set-Cookie")
+                .orElseThrow(() -> new IllegalStateException("no session cookie for " + email));
+        return new VirtualUser(email, password, "Cookie", cookie.substring(0, cookie.indexOf(';')));
+    }
+
+    HttpResponse<byte[]> login(String email, String password) throws IOException, InterruptedException {
+        return post("/api/v1/auth/login", VirtualUser.ANONYMOUS,
+                "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, password));
+    }
+
+    HttpResponse<byte[]> get(String path, VirtualUser user) throws IOException, InterruptedException {
+        return send(request(path, user).GET());
+    }
+
+    HttpResponse<byte[]> post(String path, VirtualUser user, String json) throws IOException, InterruptedException {
+        return send(request(path, user)
+                .header("Content-Type", "application/json")
+                .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    static JsonNode body(HttpResponse<byte[]> response) {
+        return response.body().length == 0 ? JSON.missingNode() : JSON.readTree(response.body());
+    }
+
+    private HttpRequest.Builder request(String path, VirtualUser user) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout);
+        if (user.header() != null) {
+            builder.header(user.header(), user.headerValue());
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
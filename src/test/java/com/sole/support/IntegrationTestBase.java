@@ -17,7 +17,9 @@ public abstract class IntegrationTestBase {
     private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
             .withDatabaseName("sole_test")
             .withUsername("test")
-            .withPassword("test");
+            .withPassword("test")
+            // application-local.yml과 같게: JDBC 배치를 multi-row INSERT로 다시 쓴다
+            .withUrlParam("rewriteBatchedStatements", "true");
 
     @DynamicPropertySource
     static void overrideProps(DynamicPropertyRegistry registry) {